@@ -0,0 +1,78 @@
+package com.kopo.hanabank.common.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.dto.DemandDepositAccountResponse;
+import com.kopo.hanabank.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 목록 ApiResponse JSON 직렬화 비용 (MVC 메시지 컨버터와 같은 ObjectMapper 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "20", "1000"})
+    private int accounts;
+
+    private ObjectWriter writer;
+    private List<DemandDepositAccount> entities;
+    private ApiResponse<List<DemandDepositAccountResponse>> response;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        User user = User.builder().id(1L).username("bench").name("홍길동").build();
+        entities = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            entities.add(DemandDepositAccount.builder()
+                    .id((long) i + 1)
+                    .user(user)
+                    .accountNumber(String.format("081%013d", i))
+                    .accountName("하나 입출금통장")
+                    .accountType(DemandDepositAccount.AccountType.CHECKING)
+                    .balance(1_000L * i)
+                    .availableBalance(1_000L * i)
+                    .openDate(LocalDate.now().minusDays(i))
+                    .baseInterestRate(new BigDecimal("0.10"))
+                    .lastTransactionDate(LocalDateTime.now())
+                    .build());
+        }
+        response = ApiResponse.success(toResponses());
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(ApiResponse.success(toResponses()));
+    }
+
+    private List<DemandDepositAccountResponse> toResponses() {
+        return entities.stream()
+                .map(DemandDepositAccountResponse::from)
+                .toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.kopo.hanabank.deposit.service;
+
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.dto.DemandDepositAccountResponse;
+import com.kopo.hanabank.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입출금 계좌 개설/조회 경로: 계좌번호 생성, 응답 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DemandDepositAccountBenchmark {
+
+    private DemandDepositAccount account;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).username("bench").name("홍길동").build();
+        account = DemandDepositAccount.builder()
+                .user(user)
+                .accountNumber(DemandDepositAccountService.generateAccountNumber())
+                .accountName("하나 입출금통장")
+                .accountType(DemandDepositAccount.AccountType.CHECKING)
+                .balance(1_250_000L)
+                .availableBalance(1_250_000L)
+                .openDate(LocalDate.now().minusYears(1))
+                .baseInterestRate(new BigDecimal("0.10"))
+                .lastTransactionDate(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public String accountNumber() {
+        return DemandDepositAccountService.generateAccountNumber();
+    }
+
+    @Benchmark
+    public DemandDepositAccountResponse toResponse() {
+        return DemandDepositAccountResponse.from(account);
+    }
+}
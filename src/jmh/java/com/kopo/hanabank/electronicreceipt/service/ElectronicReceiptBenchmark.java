@@ -0,0 +1,48 @@
+package com.kopo.hanabank.electronicreceipt.service;
+
+import com.kopo.hanabank.electronicreceipt.domain.ElectronicReceipt;
+import com.kopo.hanabank.electronicreceipt.domain.TransactionType;
+import com.kopo.hanabank.electronicreceipt.dto.ElectronicReceiptResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전자영수증 발급/조회 경로: 거래번호 생성, 응답 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ElectronicReceiptBenchmark {
+
+    private ElectronicReceipt receipt;
+
+    @Setup
+    public void setUp() {
+        receipt = ElectronicReceipt.builder()
+                .customerId(1L)
+                .transactionId(ElectronicReceiptService.generateTransactionId())
+                .transactionType(TransactionType.DEPOSIT)
+                .transactionAmount(150_000L)
+                .branchName("하나원큐")
+                .receiptDate(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public String transactionId() {
+        return ElectronicReceiptService.generateTransactionId();
+    }
+
+    @Benchmark
+    public ElectronicReceiptResponse toResponse() {
+        return ElectronicReceiptResponse.from(receipt);
+    }
+}
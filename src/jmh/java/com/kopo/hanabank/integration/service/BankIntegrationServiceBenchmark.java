@@ -0,0 +1,53 @@
+package com.kopo.hanabank.integration.service;
+
+import com.kopo.hanabank.electronicreceipt.domain.ElectronicReceipt;
+import com.kopo.hanabank.electronicreceipt.domain.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹사 연동 전자영수증 목록 응답의 영수증당 Map 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BankIntegrationServiceBenchmark {
+
+    private static final int RECEIPTS = 100;
+
+    private final ElectronicReceipt[] receipts = new ElectronicReceipt[RECEIPTS];
+
+    @Setup
+    public void setUp() {
+        TransactionType[] types = TransactionType.values();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < RECEIPTS; i++) {
+            receipts[i] = ElectronicReceipt.builder()
+                    .customerId(1L)
+                    .transactionId(String.format("ER%014d%04d", i, i))
+                    .transactionType(types[i % types.length])
+                    .transactionAmount(10_000L * (i + 1))
+                    .branchName("하나원큐")
+                    .receiptDate(now.minusDays(i))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECEIPTS)
+    public void convertToMap(Blackhole blackhole) {
+        for (ElectronicReceipt receipt : receipts) {
+            blackhole.consume(BankIntegrationService.convertToMap(receipt));
+        }
+    }
+}
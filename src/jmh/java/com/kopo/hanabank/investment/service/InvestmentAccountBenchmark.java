@@ -0,0 +1,70 @@
+package com.kopo.hanabank.investment.service;
+
+import com.kopo.hanabank.investment.domain.InvestmentAccount;
+import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import com.kopo.hanabank.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 투자 계좌 개설/평가 경로: 계좌번호 생성, 평가금액 갱신 (재평가 배치의 계좌당 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvestmentAccountBenchmark {
+
+    private static final int ACCOUNTS = 4096;
+
+    private final InvestmentAccount[] accounts = new InvestmentAccount[ACCOUNTS];
+    private final long[] currentValues = new long[ACCOUNTS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        User user = User.builder().id(1L).username("bench").name("홍길동").build();
+        InvestmentProduct product = InvestmentProduct.builder()
+                .id(1L)
+                .name("하나 ESG 펀드")
+                .minInvestmentAmount(10_000L)
+                .build();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            long amount = 10_000L * (1 + random.nextInt(10_000));
+            accounts[i] = InvestmentAccount.builder()
+                    .user(user)
+                    .product(product)
+                    .accountNumber(InvestmentService.generateAccountNumber())
+                    .accountName("하나 ESG 펀드")
+                    .investmentAmount(amount)
+                    .startDate(LocalDate.now().minusMonths(6))
+                    .build();
+            // -30% ~ +30% 평가손익
+            currentValues[i] = amount * (70 + random.nextInt(61)) / 100;
+        }
+    }
+
+    @Benchmark
+    public String accountNumber() {
+        return InvestmentService.generateAccountNumber();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACCOUNTS)
+    public void updateCurrentValue(Blackhole blackhole) {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts[i].updateCurrentValue(currentValues[i]);
+            blackhole.consume(accounts[i].getProfitLossRate());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.kopo.hanabank.investment.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 몬테카를로 전망 처리량 (ops/s = 초당 경로 수, 10년 월 단위 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MonteCarloProjectionBenchmark {
+
+    private static final int PATHS = 100_000;
+    private static final int[] CHECKPOINTS = {12, 24, 36, 48, 60, 72, 84, 96, 108, 120};
+    private static final double DRIFT = 0.055;
+    private static final double VOLATILITY = 0.18;
+
+    private final double[][] multipliers = new double[CHECKPOINTS.length][PATHS];
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void sequentialPaths(Blackhole blackhole) {
+        MonteCarloProjection.simulate(new SplittableRandom(42), CHECKPOINTS, DRIFT, VOLATILITY, multipliers, 0, PATHS);
+        blackhole.consume(multipliers);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void forkJoinPaths(Blackhole blackhole) {
+        ForkJoinPool.commonPool().invoke(MonteCarloProjection.task(42, CHECKPOINTS, DRIFT, VOLATILITY, multipliers));
+        blackhole.consume(multipliers);
+    }
+}
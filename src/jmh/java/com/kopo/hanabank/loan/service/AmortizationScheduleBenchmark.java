@@ -0,0 +1,101 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상환 스케줄 계산: 정수/double 경로 vs BigDecimal 경로
+ * 측정 전에 두 경로의 회차별 금액 차이가 1원 이내인지 검증한다.
+ * (반올림 없는 스케줄과의 비교는 AmortizationScheduleTest에서 한다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AmortizationScheduleBenchmark {
+
+    private static final long TOLERANCE_WON = 1L;
+    private static final BigDecimal MONTHLY_RATE_DENOMINATOR = BigDecimal.valueOf(120000);
+
+    @Param({"EQUAL_INSTALLMENT", "EQUAL_PRINCIPAL", "BULLET"})
+    private LoanAccount.RepaymentMethod method;
+
+    @Param({"12", "120", "360"})
+    private int months;
+
+    private final long loanAmount = 350_000_000L;
+    private final int rateKey = 437;
+
+    @Setup
+    public void validate() {
+        for (int key = 1; key <= 2000; key += 37) {
+            AmortizationSchedule fast = AmortizationSchedule.of(method, loanAmount, key, months);
+            long[][] reference = bigDecimalSchedule(method, loanAmount, key, months);
+            for (int i = 0; i < months; i++) {
+                if (Math.abs(fast.payment(i) - reference[0][i]) > TOLERANCE_WON
+                        || Math.abs(fast.interest(i) - reference[1][i]) > TOLERANCE_WON
+                        || Math.abs(fast.balance(i) - reference[2][i]) > TOLERANCE_WON) {
+                    throw new IllegalStateException("상환 스케줄 오차 초과 - 방식: " + method
+                            + ", 금리키: " + key + ", 회차: " + (i + 1));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public AmortizationSchedule fastPath() {
+        return AmortizationSchedule.of(method, loanAmount, rateKey, months);
+    }
+
+    @Benchmark
+    public long[][] bigDecimalPath() {
+        return bigDecimalSchedule(method, loanAmount, rateKey, months);
+    }
+
+    /**
+     * BigDecimal 기준 구현 (회차별 상환액/이자/잔액)
+     */
+    private static long[][] bigDecimalSchedule(LoanAccount.RepaymentMethod method, long loanAmount, int rateKey, int months) {
+        MathContext mc = MathContext.DECIMAL64;
+        BigDecimal rate = BigDecimal.valueOf(rateKey);
+        BigDecimal monthlyRate = rate.divide(MONTHLY_RATE_DENOMINATOR, mc);
+        BigDecimal balance = BigDecimal.valueOf(loanAmount);
+
+        BigDecimal installment = BigDecimal.ZERO;
+        if (method == LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT) {
+            BigDecimal power = BigDecimal.ONE.add(monthlyRate).pow(months, mc);
+            installment = balance.multiply(monthlyRate, mc).multiply(power, mc)
+                    .divide(power.subtract(BigDecimal.ONE), 0, RoundingMode.UP);
+        }
+        BigDecimal principalPerMonth = balance.divide(BigDecimal.valueOf(months), 0, RoundingMode.DOWN);
+
+        long[][] result = new long[3][months];
+        for (int i = 0; i < months; i++) {
+            BigDecimal interest = balance.multiply(rate).divide(MONTHLY_RATE_DENOMINATOR, 0, RoundingMode.DOWN);
+            boolean last = i == months - 1;
+
+            BigDecimal principal = switch (method) {
+                case EQUAL_INSTALLMENT -> last ? balance : installment.subtract(interest).max(BigDecimal.ZERO).min(balance);
+                case EQUAL_PRINCIPAL -> last ? balance : principalPerMonth;
+                case BULLET -> last ? balance : BigDecimal.ZERO;
+            };
+
+            balance = balance.subtract(principal);
+            result[0][i] = principal.add(interest).longValueExact();
+            result[1][i] = interest.longValueExact();
+            result[2][i] = balance.longValueExact();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.domain.LoanProduct;
+import com.kopo.hanabank.loan.dto.LoanAccountResponse;
+import com.kopo.hanabank.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대출 계좌 개설/조회 경로: 월 상환액 계산, 계좌번호 생성, 응답 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoanAccountBenchmark {
+
+    private static final int SCENARIOS = 4096;
+
+    private final long[] amounts = new long[SCENARIOS];
+    private final int[] rateKeys = new int[SCENARIOS];
+    private final int[] months = new int[SCENARIOS];
+
+    private LoanAccount account;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] monthOptions = {12, 24, 36, 60, 120, 360};
+        for (int i = 0; i < SCENARIOS; i++) {
+            amounts[i] = 1_000_000L * (1 + random.nextInt(500));
+            rateKeys[i] = 250 + random.nextInt(600);
+            months[i] = monthOptions[random.nextInt(monthOptions.length)];
+        }
+
+        User user = User.builder().id(1L).username("bench").name("홍길동").build();
+        LoanProduct product = LoanProduct.builder()
+                .productName("하나 그린라이프 대출")
+                .baseRate(new BigDecimal("4.5"))
+                .build();
+        LocalDate startDate = LocalDate.now().minusMonths(3);
+        account = LoanAccount.builder()
+                .user(user)
+                .product(product)
+                .accountNumber(LoanService.generateAccountNumber())
+                .accountName("하나 그린라이프 대출")
+                .loanAmount(100_000_000L)
+                .interestRate(new BigDecimal("4.37"))
+                .startDate(startDate)
+                .maturityDate(startDate.plusMonths(60))
+                .monthlyPayment(AmortizationSchedule.equalInstallmentPayment(100_000_000L, 437, 60))
+                .build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCENARIOS)
+    public void monthlyPayment(Blackhole blackhole) {
+        for (int i = 0; i < SCENARIOS; i++) {
+            blackhole.consume(AmortizationSchedule.equalInstallmentPayment(amounts[i], rateKeys[i], months[i]));
+        }
+    }
+
+    @Benchmark
+    public String accountNumber() {
+        return LoanService.generateAccountNumber();
+    }
+
+    @Benchmark
+    public LoanAccountResponse toResponse() {
+        return new LoanAccountResponse(account);
+    }
+}
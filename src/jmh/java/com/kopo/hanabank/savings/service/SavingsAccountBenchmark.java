@@ -0,0 +1,60 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.savings.domain.SavingsAccount;
+import com.kopo.hanabank.savings.domain.SavingsProduct;
+import com.kopo.hanabank.savings.dto.SavingsAccountResponse;
+import com.kopo.hanabank.user.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적금 계좌 개설/조회 경로: 계좌번호 생성, 응답 매핑
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SavingsAccountBenchmark {
+
+    private SavingsAccount account;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).username("bench").name("홍길동").build();
+        SavingsProduct product = SavingsProduct.builder()
+                .productName("하나 그린라이프 적금")
+                .basicRate(new BigDecimal("2.5"))
+                .build();
+        LocalDate startDate = LocalDate.now().minusMonths(3);
+        account = SavingsAccount.builder()
+                .user(user)
+                .product(product)
+                .accountNumber(SavingsService.generateAccountNumber())
+                .accountName("하나 그린라이프 적금")
+                .balance(900_000L)
+                .startDate(startDate)
+                .maturityDate(startDate.plusMonths(12))
+                .baseRate(new BigDecimal("2.50"))
+                .preferentialRate(new BigDecimal("1.50"))
+                .finalRate(new BigDecimal("4.00"))
+                .build();
+    }
+
+    @Benchmark
+    public String accountNumber() {
+        return SavingsService.generateAccountNumber();
+    }
+
+    @Benchmark
+    public SavingsAccountResponse toResponse() {
+        return new SavingsAccountResponse(account);
+    }
+}
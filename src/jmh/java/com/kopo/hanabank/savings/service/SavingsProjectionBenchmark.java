@@ -0,0 +1,55 @@
+package com.kopo.hanabank.savings.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 적금 시뮬레이션 시나리오당 계산 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SavingsProjectionBenchmark {
+
+    private static final int SCENARIOS = 4096;
+
+    private final int[] terms = new int[SCENARIOS];
+    private final int[] rateKeys = new int[SCENARIOS];
+    private final long[] amounts = new long[SCENARIOS];
+    private final boolean[] installment = new boolean[SCENARIOS];
+    private final boolean[] compound = new boolean[SCENARIOS];
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] termOptions = {6, 12, 24, 36, 60};
+        for (int i = 0; i < SCENARIOS; i++) {
+            terms[i] = termOptions[random.nextInt(termOptions.length)];
+            rateKeys[i] = 200 + random.nextInt(400);
+            amounts[i] = 10_000L * (1 + random.nextInt(200));
+            installment[i] = random.nextBoolean();
+            compound[i] = random.nextBoolean();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCENARIOS)
+    public void projectScenarios(Blackhole blackhole) {
+        for (int i = 0; i < SCENARIOS; i++) {
+            double factor = SavingsProjectionCalculator.interestFactor(terms[i], installment[i], compound[i], rateKeys[i]);
+            long principal = SavingsProjectionCalculator.totalPrincipal(amounts[i], terms[i], installment[i]);
+            long interest = SavingsProjectionCalculator.interest(principal, factor);
+            blackhole.consume(principal + interest - SavingsProjectionCalculator.tax(interest));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.kopo.hanabank.common.catalog;
+
+/**
+ * 카탈로그 스냅샷 교체 이벤트 (스냅샷에서 파생된 인덱스/캐시 재구성용)
+ */
+public record CatalogRefreshedEvent(String family, long version) {
+}
@@ -0,0 +1,133 @@
+package com.kopo.hanabank.common.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 조회 응답 바이트 캐시
+ * 카탈로그 버전별로 직렬화가 끝난 JSON(과 gzip 압축본)을 보관해 DTO 변환과 직렬화를 건너뛴다.
+ * 카탈로그가 교체되면 해당 상품군 항목을 모두 비운다.
+ * 검색 응답은 검색어가 제각각이라 별도의 작은 캐시에 정규화한 검색어로 보관해 목록/상세 응답이 밀려나지 않게 하고,
+ * 정규화 후에도 긴 검색어는 캐시하지 않는다.
+ * 카탈로그 버전을 약한 ETag로, 스냅샷 생성 시각을 Last-Modified로 내려 If-None-Match가 일치하면 본문 없이 304로 응답한다.
+ * 응답 본문의 timestamp는 처음 직렬화한 시각으로 고정된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogResponseCache {
+
+    // 검색어가 이보다 길면 다시 찾을 가능성이 낮아 캐시하지 않는다
+    private static final int SEARCH_KEYWORD_MAX_LENGTH = 30;
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${catalog.response-cache.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    private final Cache<Key, Body> cache = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .build();
+
+    private final Cache<Key, Body> searchCache = Caffeine.newBuilder()
+            .maximumSize(500)
+            .build();
+
+    /**
+     * @param endpoint 같은 상품군 안에서 응답을 구분하는 이름
+     * @param params   경로/쿼리 파라미터 (없으면 null)
+     * @return 304이면 null (ETag/Last-Modified 헤더와 상태 코드는 checkNotModified가 응답에 직접 기록한다)
+     */
+    public ResponseEntity<byte[]> respond(ProductCatalog<?> catalog, String endpoint, String params,
+                                          WebRequest webRequest, Supplier<?> response) {
+        return respond(cache, catalog, endpoint, params, webRequest, response);
+    }
+
+    /**
+     * 키워드 검색 응답 (검색 결과는 정규화한 검색어로만 정해지므로 같은 키로 본다)
+     */
+    public ResponseEntity<byte[]> respondSearch(ProductCatalog<?> catalog, String keyword,
+                                                WebRequest webRequest, Supplier<?> response) {
+        String normalized = ProductSearchIndex.normalize(keyword);
+        Cache<Key, Body> target = normalized.length() <= SEARCH_KEYWORD_MAX_LENGTH ? searchCache : null;
+        return respond(target, catalog, "search", normalized, webRequest, response);
+    }
+
+    /**
+     * @param target null이면 캐시하지 않고 매번 직렬화한다
+     */
+    private ResponseEntity<byte[]> respond(Cache<Key, Body> target, ProductCatalog<?> catalog, String endpoint,
+                                           String params, WebRequest webRequest, Supplier<?> response) {
+        CatalogSnapshot<?> snapshot = catalog.current();
+        long version = snapshot.getVersion();
+        String eTag = "W/\"" + catalog.getFamily() + "-" + version + "\"";
+        long lastModified = snapshot.getBuiltAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return null;
+        }
+
+        Key key = new Key(catalog.getFamily(), version, endpoint, params);
+        Body body = target != null ? target.get(key, k -> serialize(response.get())) : serialize(response.get());
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (body.gzip() != null && acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.json());
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        cache.asMap().keySet().removeIf(key -> key.family().equals(event.family()));
+        searchCache.asMap().keySet().removeIf(key -> key.family().equals(event.family()));
+    }
+
+    private Body serialize(Object response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new Body(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private record Key(String family, long version, String endpoint, String params) {
+    }
+
+    private record Body(byte[] json, byte[] gzip) {
+    }
+}
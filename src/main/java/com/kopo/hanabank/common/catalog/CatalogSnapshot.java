@@ -0,0 +1,160 @@
+package com.kopo.hanabank.common.catalog;
+
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 판매 중인 상품 카탈로그 스냅샷 (불변)
+ * id, 상품 유형, 분류(예치/대출 유형 등), 위험등급, 키워드 검색 인덱스를 생성 시점에 모두 만들어 두고 교체 전까지 그대로 사용한다.
+ */
+public final class CatalogSnapshot<P> {
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final LocalDateTime sourceModifiedAt;
+    private final long sourceCount;
+
+    private final List<P> products;
+    private final Map<Long, P> byId;
+    private final Map<String, List<P>> byType;
+    private final Map<String, List<P>> byCategory;
+    // 위험등급 오름차순 정렬 (위험등급이 없는 상품 제외)
+    private final List<P> riskOrdered;
+    private final int[] riskLevels;
+    private final ProductSearchIndex<P> searchIndex;
+
+    private CatalogSnapshot(long version, ModificationStamp fingerprint, List<P> products, Map<Long, P> byId,
+                            Map<String, List<P>> byType, Map<String, List<P>> byCategory,
+                            List<P> riskOrdered, int[] riskLevels, ProductSearchIndex<P> searchIndex) {
+        this.version = version;
+        this.builtAt = LocalDateTime.now();
+        this.sourceModifiedAt = fingerprint.getLastModifiedAt();
+        this.sourceCount = fingerprint.getCount() != null ? fingerprint.getCount() : 0L;
+        this.products = products;
+        this.byId = byId;
+        this.byType = byType;
+        this.byCategory = byCategory;
+        this.riskOrdered = riskOrdered;
+        this.riskLevels = riskLevels;
+        this.searchIndex = searchIndex;
+    }
+
+    /**
+     * @param categoryOf 분류가 없는 상품군은 null
+     * @param riskOf     위험등급이 없는 상품군은 null
+     * @param searchFields 키워드 검색 색인 필드 (첫 번째는 상품명)
+     */
+    public static <P> CatalogSnapshot<P> of(long version, ModificationStamp fingerprint, List<P> products,
+                                            Function<P, Long> idOf, Function<P, String> typeOf,
+                                            Function<P, String> categoryOf, Function<P, Integer> riskOf,
+                                            List<ProductSearchIndex.Field<P>> searchFields) {
+        List<P> ordered = new ArrayList<>(products);
+        ordered.sort(Comparator.comparing(idOf, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        Map<Long, P> byId = new HashMap<>();
+        for (P product : ordered) {
+            byId.put(idOf.apply(product), product);
+        }
+
+        List<P> riskOrdered = new ArrayList<>();
+        int[] riskLevels = new int[0];
+        if (riskOf != null) {
+            for (P product : ordered) {
+                if (riskOf.apply(product) != null) {
+                    riskOrdered.add(product);
+                }
+            }
+            riskOrdered.sort(Comparator.comparing(riskOf));
+            riskLevels = riskOrdered.stream().mapToInt(riskOf::apply).toArray();
+        }
+
+        return new CatalogSnapshot<>(version, fingerprint, Collections.unmodifiableList(ordered),
+                Collections.unmodifiableMap(byId), group(ordered, typeOf), group(ordered, categoryOf),
+                Collections.unmodifiableList(riskOrdered), riskLevels,
+                ProductSearchIndex.build(ordered, searchFields));
+    }
+
+    private static <P> Map<String, List<P>> group(List<P> products, Function<P, String> keyOf) {
+        if (keyOf == null) {
+            return Map.of();
+        }
+        Map<String, List<P>> groups = new LinkedHashMap<>();
+        for (P product : products) {
+            String key = keyOf.apply(product);
+            if (key != null) {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(product);
+            }
+        }
+        groups.replaceAll((key, list) -> Collections.unmodifiableList(list));
+        return Collections.unmodifiableMap(groups);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public LocalDateTime getSourceModifiedAt() {
+        return sourceModifiedAt;
+    }
+
+    public long getSourceCount() {
+        return sourceCount;
+    }
+
+    public List<P> getProducts() {
+        return products;
+    }
+
+    public Optional<P> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public List<P> getByType(String type) {
+        return byType.getOrDefault(type, List.of());
+    }
+
+    public List<P> getByCategory(String category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    /**
+     * 위험등급이 maxRiskLevel 이하인 상품 (위험등급 오름차순)
+     */
+    public List<P> getByMaxRiskLevel(int maxRiskLevel) {
+        int index = Arrays.binarySearch(riskLevels, maxRiskLevel);
+        if (index < 0) {
+            return riskOrdered.subList(0, -index - 1);
+        }
+        while (index < riskLevels.length && riskLevels[index] == maxRiskLevel) {
+            index++;
+        }
+        return riskOrdered.subList(0, index);
+    }
+
+    /**
+     * 상품명/설명/특징/혜택 키워드 검색 (관련도 내림차순)
+     */
+    public List<P> search(String keyword) {
+        return searchIndex.search(keyword);
+    }
+
+    boolean isSameSource(ModificationStamp fingerprint) {
+        long count = fingerprint.getCount() != null ? fingerprint.getCount() : 0L;
+        return count == sourceCount && Objects.equals(fingerprint.getLastModifiedAt(), sourceModifiedAt);
+    }
+}
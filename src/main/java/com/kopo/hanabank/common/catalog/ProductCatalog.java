@@ -0,0 +1,79 @@
+package com.kopo.hanabank.common.catalog;
+
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+/**
+ * 상품군별 인메모리 카탈로그
+ * 주기적으로 테이블 요약(행 수, 최종 수정 시각)만 조회해 바뀐 경우에만 새 스냅샷을 만들고 참조를 한 번에 교체한다.
+ * 조회는 현재 스냅샷만 읽으므로 락과 DB 조회가 없다.
+ */
+@Slf4j
+public abstract class ProductCatalog<P> {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile CatalogSnapshot<P> snapshot;
+
+    protected ProductCatalog(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 상품군 이름 (savings, loan, investment)
+     */
+    public abstract String getFamily();
+
+    protected abstract ModificationStamp loadFingerprint();
+
+    protected abstract List<P> loadActiveProducts();
+
+    protected abstract CatalogSnapshot<P> build(long version, ModificationStamp fingerprint, List<P> products);
+
+    public CatalogSnapshot<P> current() {
+        CatalogSnapshot<P> current = this.snapshot;
+        if (current == null) {
+            refresh(false);
+            current = this.snapshot;
+        }
+        return current;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh(false);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.refresh-interval:60000}",
+            initialDelayString = "${catalog.refresh-interval:60000}")
+    public void refreshIfChanged() {
+        refresh(false);
+    }
+
+    /**
+     * @param force true면 변경 여부와 무관하게 다시 만든다
+     * @return 스냅샷을 교체했는지 여부
+     */
+    public synchronized boolean refresh(boolean force) {
+        CatalogSnapshot<P> current = this.snapshot;
+        ModificationStamp fingerprint = loadFingerprint();
+        if (!force && current != null && current.isSameSource(fingerprint)) {
+            return false;
+        }
+
+        // 재시작 후에도 버전이 이전 값과 겹치지 않도록 시각 기반으로 단조 증가시킨다
+        long version = Math.max(current != null ? current.getVersion() + 1 : 0L, System.currentTimeMillis());
+        CatalogSnapshot<P> rebuilt = build(version, fingerprint, loadActiveProducts());
+        this.snapshot = rebuilt;
+
+        log.info("상품 카탈로그 갱신 - 상품군: {}, 버전: {}, 상품: {}개", getFamily(), version, rebuilt.getProducts().size());
+        eventPublisher.publishEvent(new CatalogRefreshedEvent(getFamily(), version));
+        return true;
+    }
+}
@@ -0,0 +1,179 @@
+package com.kopo.hanabank.common.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 상품 키워드 검색용 역색인 (문자 n-gram)
+ * 한글은 띄어쓰기와 조사가 불규칙해 형태소 없이도 부분 일치가 되도록 음절 단위 bigram으로 색인하고,
+ * 한 글자 검색어를 위해 unigram도 함께 색인한다. 검색어의 모든 n-gram을 포함한 상품만 tf-idf 점수순으로 반환한다.
+ */
+public final class ProductSearchIndex<P> {
+
+    private static final float PHRASE_BOOST = 10.0f;
+
+    private final List<P> products;
+    private final String[] normalizedNames;
+    private final Map<String, Posting> postings;
+
+    private ProductSearchIndex(List<P> products, String[] normalizedNames, Map<String, Posting> postings) {
+        this.products = products;
+        this.normalizedNames = normalizedNames;
+        this.postings = postings;
+    }
+
+    /**
+     * @param products 색인 순서가 동점일 때의 결과 순서가 된다
+     * @param fields   첫 번째 필드를 상품명으로 보고 검색어 전체가 포함되면 가산점을 준다
+     */
+    public static <P> ProductSearchIndex<P> build(List<P> products, List<Field<P>> fields) {
+        Map<String, Map<Integer, Float>> weights = new HashMap<>();
+        String[] names = new String[products.size()];
+
+        for (int doc = 0; doc < products.size(); doc++) {
+            P product = products.get(doc);
+            for (int f = 0; f < fields.size(); f++) {
+                Field<P> field = fields.get(f);
+                String normalized = normalize(field.textOf().apply(product));
+                if (f == 0) {
+                    names[doc] = normalized;
+                }
+                for (String gram : grams(normalized, 1)) {
+                    weights.computeIfAbsent(gram, g -> new HashMap<>()).merge(doc, field.weight(), Float::sum);
+                }
+                for (String gram : grams(normalized, 2)) {
+                    weights.computeIfAbsent(gram, g -> new HashMap<>()).merge(doc, field.weight(), Float::sum);
+                }
+            }
+        }
+
+        Map<String, Posting> postings = new HashMap<>(weights.size() * 2);
+        int documentCount = products.size();
+        for (Map.Entry<String, Map<Integer, Float>> entry : weights.entrySet()) {
+            postings.put(entry.getKey(), Posting.of(entry.getValue(), documentCount));
+        }
+        return new ProductSearchIndex<>(products, names, postings);
+    }
+
+    /**
+     * @return 관련도 내림차순, 검색어가 비어 있으면 전체 상품
+     */
+    public List<P> search(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isBlank()) {
+            return products;
+        }
+        // 두 글자 이상 이어진 검색어는 bigram, 한 글자 토막만 unigram으로 찾는다
+        Set<String> queryGrams = new LinkedHashSet<>();
+        for (String token : normalized.split(" ")) {
+            if (token.length() == 1) {
+                queryGrams.add(token);
+            } else {
+                queryGrams.addAll(grams(token, 2));
+            }
+        }
+
+        float[] scores = new float[products.size()];
+        int[] hits = new int[products.size()];
+        for (String gram : queryGrams) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            for (int i = 0; i < posting.docs.length; i++) {
+                scores[posting.docs[i]] += posting.scores[i];
+                hits[posting.docs[i]]++;
+            }
+        }
+
+        List<Integer> matched = new ArrayList<>();
+        for (int doc = 0; doc < products.size(); doc++) {
+            if (hits[doc] == queryGrams.size()) {
+                if (normalizedNames[doc] != null && normalizedNames[doc].contains(normalized)) {
+                    scores[doc] += PHRASE_BOOST;
+                }
+                matched.add(doc);
+            }
+        }
+        matched.sort((a, b) -> Float.compare(scores[b], scores[a]));
+
+        List<P> result = new ArrayList<>(matched.size());
+        for (int doc : matched) {
+            result.add(products.get(doc));
+        }
+        return result;
+    }
+
+    /**
+     * NFC 정규화(자모 결합), 소문자화 후 글자/숫자가 아닌 문자는 공백 하나로 바꾼다
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder builder = new StringBuilder(composed.length());
+        boolean space = true;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+                space = false;
+            } else if (!space) {
+                builder.append(' ');
+                space = true;
+            }
+        }
+        return builder.toString().trim();
+    }
+
+    /**
+     * 공백으로 나뉜 토막마다 n글자 n-gram (토막이 n보다 짧으면 생성하지 않는다)
+     */
+    static List<String> grams(String normalized, int n) {
+        List<String> grams = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return grams;
+        }
+        for (String token : normalized.split(" ")) {
+            for (int i = 0; i + n <= token.length(); i++) {
+                grams.add(token.substring(i, i + n));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 색인 필드 (가중치가 클수록 해당 필드 일치가 높은 점수를 받는다)
+     */
+    public record Field<P>(Function<P, String> textOf, float weight) {
+    }
+
+    private static final class Posting {
+        private final int[] docs;
+        private final float[] scores;
+
+        private Posting(int[] docs, float[] scores) {
+            this.docs = docs;
+            this.scores = scores;
+        }
+
+        // 문서별 가중 빈도 x idf를 미리 곱해 둔다
+        private static Posting of(Map<Integer, Float> weights, int documentCount) {
+            int[] docs = weights.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            float idf = (float) Math.log(1.0 + (double) documentCount / docs.length);
+            float[] scores = new float[docs.length];
+            for (int i = 0; i < docs.length; i++) {
+                scores[i] = weights.get(docs[i]) * idf;
+            }
+            return new Posting(docs, scores);
+        }
+    }
+
+}
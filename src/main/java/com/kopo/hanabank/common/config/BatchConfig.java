@@ -0,0 +1,37 @@
+package com.kopo.hanabank.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BatchConfig {
+
+    /**
+     * 배치 파티션 병렬 처리용 스레드풀 (기본값: CPU 코어 수)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchTaskExecutor(@Value("${batch.pool-size:0}") int poolSize) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setThreadNamePrefix("batch-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 시세 파일 재생 전용 스레드 (버퍼가 가득 차면 대기하므로 배치 스레드풀과 나눈다)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor priceFeedReplayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("price-replay-");
+        return executor;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kopo.hanabank.common.controller;
+
+import com.kopo.hanabank.common.catalog.ProductCatalog;
+import com.kopo.hanabank.common.dto.ApiResponse;
+import com.kopo.hanabank.common.dto.CatalogStatusResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "상품 카탈로그 관리", description = "인메모리 상품 카탈로그 조회 및 갱신 API")
+@RestController
+@RequestMapping("/admin/catalogs")
+@RequiredArgsConstructor
+public class CatalogAdminController {
+
+    private final List<ProductCatalog<?>> catalogs;
+
+    @Operation(summary = "카탈로그 상태 조회", description = "상품군별 카탈로그 버전과 상품 수를 조회합니다.")
+    @GetMapping("")
+    public ApiResponse<List<CatalogStatusResponse>> getCatalogs() {
+        return ApiResponse.success(status());
+    }
+
+    @Operation(summary = "카탈로그 갱신", description = "변경 여부와 무관하게 모든 상품군 카탈로그를 DB에서 다시 구성합니다.")
+    @PostMapping("/refresh")
+    public ApiResponse<List<CatalogStatusResponse>> refreshCatalogs() {
+        catalogs.forEach(catalog -> catalog.refresh(true));
+        return ApiResponse.success("상품 카탈로그가 갱신되었습니다.", status());
+    }
+
+    private List<CatalogStatusResponse> status() {
+        return catalogs.stream()
+                .map(catalog -> new CatalogStatusResponse(catalog.getFamily(), catalog.current()))
+                .toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.kopo.hanabank.common.domain;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 행 집합의 변경 감지용 요약 (행 수, 최종 수정 시각)
+ * 수정 시 modifiedAt이 갱신되므로 두 값이 같으면 내용도 바뀌지 않은 것으로 본다 (행 삭제는 행 수로 감지한다).
+ */
+public interface ModificationStamp {
+
+    Long getCount();
+
+    LocalDateTime getLastModifiedAt();
+
+    /**
+     * 약한 ETag (W/"prefix-행수-수정시각")
+     */
+    default String toETag(String prefix) {
+        long count = getCount() != null ? getCount() : 0L;
+        long modifiedAt = getLastModifiedAt() != null
+                ? getLastModifiedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        return "W/\"" + prefix + "-" + count + "-" + modifiedAt + "\"";
+    }
+
+    static ModificationStamp of(long count, LocalDateTime lastModifiedAt) {
+        return new ModificationStamp() {
+            @Override
+            public Long getCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastModifiedAt() {
+                return lastModifiedAt;
+            }
+        };
+    }
+
+    /**
+     * 여러 행 집합을 하나로 묶은 요약 (행 수 합계, 가장 늦은 수정 시각)
+     */
+    static ModificationStamp combine(ModificationStamp... stamps) {
+        long count = 0;
+        LocalDateTime lastModifiedAt = null;
+        for (ModificationStamp stamp : stamps) {
+            count += stamp.getCount() != null ? stamp.getCount() : 0L;
+            LocalDateTime modifiedAt = stamp.getLastModifiedAt();
+            if (modifiedAt != null && (lastModifiedAt == null || modifiedAt.isAfter(lastModifiedAt))) {
+                lastModifiedAt = modifiedAt;
+            }
+        }
+        return of(count, lastModifiedAt);
+    }
+}
@@ -0,0 +1,23 @@
+package com.kopo.hanabank.common.dto;
+
+import com.kopo.hanabank.common.catalog.CatalogSnapshot;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class CatalogStatusResponse {
+    private String family;
+    private Long version;
+    private Integer productCount;
+    private LocalDateTime builtAt;
+    private LocalDateTime sourceModifiedAt;
+
+    public CatalogStatusResponse(String family, CatalogSnapshot<?> snapshot) {
+        this.family = family;
+        this.version = snapshot.getVersion();
+        this.productCount = snapshot.getProducts().size();
+        this.builtAt = snapshot.getBuiltAt();
+        this.sourceModifiedAt = snapshot.getSourceModifiedAt();
+    }
+}
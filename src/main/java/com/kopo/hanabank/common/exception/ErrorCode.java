@@ -35,6 +35,7 @@ public enum ErrorCode {
     LOAN_ACCOUNT_NOT_FOUND("L002", "대출 계좌를 찾을 수 없습니다."),
     INVALID_LOAN_AMOUNT("L003", "유효하지 않은 대출 금액입니다."),
     LOAN_APPLICATION_REJECTED("L004", "대출 신청이 거절되었습니다."),
+    REPAYMENT_ACCOUNT_NOT_OWNED("L005", "차주 본인 명의의 입출금 계좌만 상환 계좌로 지정할 수 있습니다."),
     
     // 공통
     INTERNAL_SERVER_ERROR("C001", "서버 내부 오류가 발생했습니다."),
@@ -0,0 +1,66 @@
+package com.kopo.hanabank.common.metrics;
+
+import com.kopo.hanabank.common.exception.BusinessException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업무 서비스 메서드 지표 수집
+ * 예금/적금/대출/투자/전자영수증/연동 서비스의 public 메서드마다 호출 시간과 건수(hanabank.service)를,
+ * 업무 예외는 오류 코드별 건수(hanabank.service.business-errors)를 남긴다.
+ * DB 커넥션 풀(hikaricp.*), 하나그린세상 호출(http.client.requests), 스케줄 작업(tasks.scheduled.execution)은
+ * actuator 자동 설정이 같은 레지스트리에 기록한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String BASE_PACKAGE = "com.kopo.hanabank.";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..)) && ("
+            + "within(com.kopo.hanabank.deposit..*) || within(com.kopo.hanabank.savings..*) || "
+            + "within(com.kopo.hanabank.loan..*) || within(com.kopo.hanabank.investment..*) || "
+            + "within(com.kopo.hanabank.electronicreceipt..*) || within(com.kopo.hanabank.integration..*))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> serviceType = joinPoint.getSignature().getDeclaringType();
+        String domain = domainOf(serviceType);
+        String exception = "none";
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            if (e instanceof BusinessException businessException) {
+                meterRegistry.counter("hanabank.service.business-errors",
+                        "domain", domain,
+                        "code", businessException.getErrorCode().name()).increment();
+            }
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("hanabank.service")
+                    .description("업무 서비스 메서드 처리 시간")
+                    .tag("domain", domain)
+                    .tag("class", serviceType.getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(exception) ? "SUCCESS" : "ERROR")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    // com.kopo.hanabank.<domain>.service -> <domain>
+    private static String domainOf(Class<?> serviceType) {
+        String packageName = serviceType.getPackageName();
+        int end = packageName.indexOf('.', BASE_PACKAGE.length());
+        return end > 0 ? packageName.substring(BASE_PACKAGE.length(), end) : packageName;
+    }
+}
@@ -0,0 +1,480 @@
+package com.kopo.hanabank.config;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.service.AmortizationSchedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 성능 측정용 대량 합성 데이터 생성기 (synthetic 프로필에서만 동작)
+ * 사용자, 입출금/적금/대출/투자 계좌, 전자영수증을 설정한 건수만큼 배치 INSERT로 병렬 생성한다.
+ * 같은 시드와 배치 스레드 수면 같은 데이터가 만들어지며, 합성 행은 SYN 접두사(CI, 계좌번호, 거래번호)로 구분된다.
+ * 합성 사용자가 이미 있으면 생성하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("synthetic")
+@RequiredArgsConstructor
+public class SyntheticDataGenerator {
+
+    private static final String CI_PREFIX = "SYNCI-";
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    // 성씨 누적 비율 (통계청 인구 비중을 단순화)
+    private static final double[] SURNAME_WEIGHTS = {0.215, 0.147, 0.084, 0.047, 0.044, 0.024, 0.021, 0.021, 0.020,
+            0.017, 0.015, 0.015, 0.015, 0.014, 0.013};
+    private static final String[] GIVEN_SYLLABLES = {"민", "서", "지", "현", "준", "예", "도", "하", "윤", "은", "수", "영",
+            "우", "진", "성", "연", "채", "원", "주", "호"};
+    private static final String[] REGIONS = {"서울특별시", "경기도", "부산광역시", "경상남도", "인천광역시", "경상북도",
+            "대구광역시", "충청남도", "전라남도", "전북특별자치도", "충청북도", "강원특별자치도", "대전광역시", "광주광역시",
+            "울산광역시", "제주특별자치도", "세종특별자치시"};
+    // 시도별 인구 비중
+    private static final double[] REGION_WEIGHTS = {0.183, 0.265, 0.063, 0.063, 0.058, 0.049, 0.046, 0.041, 0.035,
+            0.034, 0.031, 0.030, 0.028, 0.028, 0.021, 0.013, 0.008};
+    private static final String[] GRADES = {"BASIC", "SILVER", "GOLD", "VIP"};
+    private static final double[] GRADE_WEIGHTS = {0.60, 0.25, 0.12, 0.03};
+    private static final String[] BRANCHES = {"본점영업부", "강남역지점", "여의도지점", "종로지점", "잠실지점", "판교지점",
+            "분당지점", "해운대지점", "서면지점", "대구중앙지점", "광주지점", "대전둔산지점", "인터넷뱅킹", "하나원큐"};
+    private static final double[] BRANCH_WEIGHTS = {0.03, 0.05, 0.05, 0.04, 0.04, 0.04, 0.03, 0.03, 0.03, 0.03,
+            0.02, 0.02, 0.25, 0.34};
+    private static final String[] RECEIPT_TYPES = {"DEPOSIT", "PAYMENT", "MATURITY_RENEWAL", "CANCELLATION"};
+    private static final double[] RECEIPT_TYPE_WEIGHTS = {0.55, 0.35, 0.05, 0.05};
+    private static final String[] DEPOSIT_TYPES = {"CHECKING", "SAVINGS", "TIME_DEPOSIT"};
+    private static final double[] DEPOSIT_TYPE_WEIGHTS = {0.85, 0.10, 0.05};
+    private static final LoanAccount.RepaymentMethod[] REPAYMENT_METHODS = LoanAccount.RepaymentMethod.values();
+    private static final double[] REPAYMENT_METHOD_WEIGHTS = {0.80, 0.15, 0.05};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+
+    @Value("${synthetic-data.users:1000000}")
+    private long userCount;
+
+    @Value("${synthetic-data.deposit-accounts:3000000}")
+    private long depositAccountCount;
+
+    @Value("${synthetic-data.savings-accounts:1000000}")
+    private long savingsAccountCount;
+
+    @Value("${synthetic-data.loan-accounts:1000000}")
+    private long loanAccountCount;
+
+    @Value("${synthetic-data.investment-accounts:1000000}")
+    private long investmentAccountCount;
+
+    @Value("${synthetic-data.receipts:50000000}")
+    private long receiptCount;
+
+    @Value("${synthetic-data.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${synthetic-data.seed:20241019}")
+    private long seed;
+
+    private LocalDate today;
+    private long[] userIds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void generate() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE ci LIKE '" + CI_PREFIX + "%'", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("합성 데이터가 이미 존재합니다. 생성을 건너뜁니다 - 합성 사용자: {}명", existing);
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        today = LocalDate.now();
+        log.info("합성 데이터 생성 시작 - 사용자: {}, 입출금: {}, 적금: {}, 대출: {}, 투자: {}, 영수증: {}, 스레드: {}",
+                userCount, depositAccountCount, savingsAccountCount, loanAccountCount, investmentAccountCount,
+                receiptCount, batchTaskExecutor.getMaxPoolSize());
+
+        generateUsers();
+        userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE ci LIKE '" + CI_PREFIX + "%' ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        if (userIds.length == 0) {
+            log.warn("합성 사용자가 없어 계좌 생성을 건너뜁니다");
+            return;
+        }
+
+        generateDepositAccounts();
+        generateSavingsAccounts();
+        generateLoanAccounts();
+        generateInvestmentAccounts();
+        generateReceipts();
+
+        log.info("합성 데이터 생성 완료 - 소요: {}s", (System.currentTimeMillis() - startedAt) / 1000);
+    }
+
+    private void generateUsers() {
+        insertInParallel("사용자", userCount,
+                "INSERT INTO users (username, email, phone_number, name, birth_date, address, is_active, ci, " +
+                "customer_grade, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    // 만 20~79세, 40대 중반에 몰린 분포
+                    int age = (int) clamp(Math.round(45 + random.nextGaussian() * 14), 20, 79);
+                    LocalDate birthDate = today.minusYears(age).minusDays(random.nextInt(365));
+                    Timestamp createdAt = Timestamp.valueOf(today.minusDays(random.nextInt(5 * 365))
+                            .atStartOfDay().plusSeconds(random.nextInt(86_400)));
+
+                    ps.setString(1, String.format("syn%08d", row));
+                    ps.setString(2, String.format("syn%08d@example.com", row));
+                    // 실제 사용자와 겹치지 않도록 019 국번을 쓴다
+                    ps.setString(3, String.format("019-%04d-%04d", row / 10_000, row % 10_000));
+                    ps.setString(4, pick(SURNAMES, SURNAME_WEIGHTS, random)
+                            + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]
+                            + GIVEN_SYLLABLES[random.nextInt(GIVEN_SYLLABLES.length)]);
+                    ps.setString(5, birthDate.toString().replace("-", ""));
+                    ps.setString(6, pick(REGIONS, REGION_WEIGHTS, random) + " 합성로 " + (1 + random.nextInt(300)));
+                    ps.setBoolean(7, random.nextDouble() < 0.97);
+                    ps.setString(8, CI_PREFIX + String.format("%010d", row));
+                    ps.setString(9, pick(GRADES, GRADE_WEIGHTS, random));
+                    ps.setTimestamp(10, createdAt);
+                    ps.setTimestamp(11, createdAt);
+                });
+    }
+
+    private void generateDepositAccounts() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertInParallel("입출금 계좌", depositAccountCount,
+                "INSERT INTO demand_deposit_accounts (user_id, account_number, account_name, bank_code, account_type, " +
+                "balance, available_balance, open_date, base_interest_rate, status, is_active, last_transaction_date, " +
+                "accrued_interest, created_at, modified_at) VALUES (?, ?, ?, '081', ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)",
+                (ps, row, random) -> {
+                    // 앞쪽 사용자 수만큼은 한 명당 하나씩, 나머지는 일부 사용자에게 몰리도록 배정한다
+                    long userId = row < userIds.length ? userIds[(int) row] : skewedUser(random, 2.0);
+                    long balance = logNormal(random, 500_000, 1.6, 0, 5_000_000_000L);
+                    boolean closed = random.nextDouble() < 0.03;
+                    LocalDate openDate = today.minusDays(random.nextInt(10 * 365));
+
+                    ps.setLong(1, userId);
+                    ps.setString(2, String.format("SYN081%014d", row));
+                    ps.setString(3, "입출금통장");
+                    ps.setString(4, pick(DEPOSIT_TYPES, DEPOSIT_TYPE_WEIGHTS, random));
+                    ps.setLong(5, closed ? 0 : balance);
+                    ps.setLong(6, closed ? 0 : balance);
+                    ps.setDate(7, Date.valueOf(openDate));
+                    ps.setBigDecimal(8, BigDecimal.valueOf(10 + random.nextInt(41), 2));
+                    ps.setString(9, closed ? "CLOSED" : "ACTIVE");
+                    ps.setBoolean(10, !closed);
+                    ps.setTimestamp(11, Timestamp.valueOf(today.minusDays(random.nextInt(90)).atStartOfDay()
+                            .plusSeconds(random.nextInt(86_400))));
+                    ps.setTimestamp(12, Timestamp.valueOf(openDate.atStartOfDay()));
+                    ps.setTimestamp(13, now);
+                });
+    }
+
+    private void generateSavingsAccounts() {
+        List<Object[]> products = jdbcTemplate.query(
+                "SELECT product_id, basic_rate, term_months, min_amount, max_amount FROM savings_products " +
+                "WHERE is_active = TRUE ORDER BY product_id",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getBigDecimal(2), rs.getInt(3), rs.getLong(4), rs.getLong(5)});
+        if (products.isEmpty()) {
+            log.warn("적금 상품이 없어 적금 계좌 생성을 건너뜁니다");
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertInParallel("적금 계좌", savingsAccountCount,
+                "INSERT INTO savings_accounts (user_id, product_id, account_number, account_name, balance, start_date, " +
+                "maturity_date, base_rate, preferential_rate, final_rate, status, is_active, auto_transfer_enabled, " +
+                "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?, ?)",
+                (ps, row, random) -> {
+                    Object[] product = products.get(random.nextInt(products.size()));
+                    BigDecimal baseRate = (BigDecimal) product[1];
+                    int termMonths = (int) product[2] > 0 ? (int) product[2] : 12;
+                    long monthly = roundTo(logNormal(random, 300_000, 0.8, (long) product[3],
+                            Math.max((long) product[3], (long) product[4])), 10_000);
+                    // 가입 후 만기를 조금 넘긴 기간까지 고르게 분포시켜 일부는 만기 해지 상태가 된다
+                    LocalDate startDate = today.minusDays(random.nextInt(Math.max(1, termMonths * 36)));
+                    LocalDate maturityDate = startDate.plusMonths(termMonths);
+                    boolean matured = !maturityDate.isAfter(today);
+                    long paidMonths = Math.min(termMonths, ChronoUnit.MONTHS.between(startDate, today) + 1);
+                    BigDecimal preferentialRate = BigDecimal.valueOf(random.nextInt(11), 1);
+
+                    ps.setLong(1, skewedUser(random, 1.0));
+                    ps.setLong(2, (long) product[0]);
+                    ps.setString(3, String.format("SYN506%014d", row));
+                    ps.setString(4, "적금");
+                    ps.setLong(5, matured ? 0 : monthly * paidMonths);
+                    ps.setDate(6, Date.valueOf(startDate));
+                    ps.setDate(7, Date.valueOf(maturityDate));
+                    ps.setBigDecimal(8, baseRate);
+                    ps.setBigDecimal(9, preferentialRate);
+                    ps.setBigDecimal(10, baseRate.add(preferentialRate));
+                    ps.setString(11, matured ? "CLOSED" : "ACTIVE");
+                    ps.setBoolean(12, !matured);
+                    ps.setTimestamp(13, Timestamp.valueOf(startDate.atStartOfDay()));
+                    ps.setTimestamp(14, now);
+                });
+    }
+
+    private void generateLoanAccounts() {
+        List<Object[]> products = jdbcTemplate.query(
+                "SELECT product_id, base_rate, min_amount, max_amount, min_period_months, max_period_months " +
+                "FROM loan_products WHERE is_active = TRUE ORDER BY product_id",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getBigDecimal(2), rs.getLong(3), rs.getLong(4),
+                        rs.getInt(5), rs.getInt(6)});
+        if (products.isEmpty()) {
+            log.warn("대출 상품이 없어 대출 계좌 생성을 건너뜁니다");
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertInParallel("대출 계좌", loanAccountCount,
+                "INSERT INTO loan_accounts (user_id, product_id, account_number, account_name, loan_amount, " +
+                "remaining_amount, interest_rate, base_rate, preferential_rate, start_date, maturity_date, " +
+                "monthly_payment, status, repayment_method, last_collected_installment, next_due_date, " +
+                "last_collection_date, overdue_principal, overdue_interest, delinquency_bucket, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 'CURRENT', ?, ?)",
+                (ps, row, random) -> {
+                    Object[] product = products.get(random.nextInt(products.size()));
+                    BigDecimal baseRate = (BigDecimal) product[1];
+                    long minAmount = (long) product[2];
+                    long maxAmount = Math.max(minAmount, (long) product[3]);
+                    int minMonths = Math.max(1, (int) product[4]);
+                    int months = minMonths + random.nextInt(Math.max(1, (int) product[5] - minMonths + 1));
+                    long amount = Math.max(minAmount, roundTo(logNormal(random,
+                            Math.sqrt((double) Math.max(1, minAmount) * maxAmount), 0.9, minAmount, maxAmount), 100_000));
+                    BigDecimal preferentialRate = BigDecimal.valueOf(random.nextInt(6), 1);
+                    BigDecimal interestRate = baseRate.add(BigDecimal.valueOf(random.nextInt(151), 2))
+                            .subtract(preferentialRate).max(BigDecimal.valueOf(1, 1));
+                    LoanAccount.RepaymentMethod method = pick(REPAYMENT_METHODS, REPAYMENT_METHOD_WEIGHTS, random);
+                    AmortizationSchedule schedule = AmortizationSchedule.of(method, amount,
+                            interestRate.movePointRight(2).intValue(), months);
+
+                    // 약정 기간 안에서 실행일을 고르고, 그 사이 도래한 회차는 모두 정상 상환된 것으로 둔다
+                    LocalDate startDate = today.minusMonths(random.nextInt(months + 1)).minusDays(random.nextInt(28));
+                    int collected = (int) Math.min(months, ChronoUnit.MONTHS.between(startDate, today));
+                    boolean completed = collected >= months;
+                    long remaining = collected == 0 ? amount : schedule.balance(collected - 1);
+
+                    ps.setLong(1, skewedUser(random, 1.0));
+                    ps.setLong(2, (long) product[0]);
+                    ps.setString(3, String.format("SYNLOAN%013d", row));
+                    ps.setString(4, "대출");
+                    ps.setLong(5, amount);
+                    ps.setLong(6, remaining);
+                    ps.setBigDecimal(7, interestRate);
+                    ps.setBigDecimal(8, baseRate);
+                    ps.setBigDecimal(9, preferentialRate);
+                    ps.setDate(10, Date.valueOf(startDate));
+                    ps.setDate(11, Date.valueOf(startDate.plusMonths(months)));
+                    ps.setLong(12, schedule.firstPayment());
+                    ps.setString(13, completed ? "COMPLETED" : "ACTIVE");
+                    ps.setString(14, method.name());
+                    ps.setInt(15, collected);
+                    setDate(ps, 16, completed ? null : startDate.plusMonths(collected + 1L));
+                    setDate(ps, 17, collected == 0 ? null : startDate.plusMonths(collected));
+                    ps.setTimestamp(18, Timestamp.valueOf(startDate.atStartOfDay()));
+                    ps.setTimestamp(19, now);
+                });
+    }
+
+    private void generateInvestmentAccounts() {
+        List<Object[]> products = jdbcTemplate.query(
+                "SELECT id, min_investment_amount, nav FROM investment_products WHERE is_active = TRUE ORDER BY id",
+                (rs, i) -> new Object[]{rs.getLong(1), rs.getLong(2),
+                        rs.getBigDecimal(3) != null ? rs.getBigDecimal(3) : BigDecimal.valueOf(1000)});
+        if (products.isEmpty()) {
+            log.warn("투자 상품이 없어 투자 계좌 생성을 건너뜁니다");
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertInParallel("투자 계좌", investmentAccountCount,
+                "INSERT INTO investment_accounts (user_id, product_id, account_number, account_name, investment_amount, " +
+                "current_value, profit_loss, profit_loss_rate, units, start_date, status, is_active, " +
+                "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    Object[] product = products.get(random.nextInt(products.size()));
+                    BigDecimal nav = (BigDecimal) product[2];
+                    long amount = Math.max((long) product[1],
+                            roundTo(logNormal(random, 3_000_000, 1.1, 10_000, 1_000_000_000L), 10_000));
+                    // 가입 이후 수익률 (평균 3%, 표준편차 12%)로 가입 당시 기준가를 역산한다
+                    double gain = clamp(0.03 + random.nextGaussian() * 0.12, -0.6, 2.0);
+                    BigDecimal purchaseNav = nav.divide(BigDecimal.valueOf(1 + gain), 4, RoundingMode.HALF_UP);
+                    BigDecimal units = BigDecimal.valueOf(amount).divide(purchaseNav, 6, RoundingMode.DOWN);
+                    long currentValue = units.multiply(nav).setScale(0, RoundingMode.DOWN).longValue();
+                    long profitLoss = currentValue - amount;
+                    boolean closed = random.nextDouble() < 0.05;
+                    LocalDate startDate = today.minusDays(random.nextInt(3 * 365));
+
+                    ps.setLong(1, skewedUser(random, 1.5));
+                    ps.setLong(2, (long) product[0]);
+                    ps.setString(3, String.format("SYNINV%014d", row));
+                    ps.setString(4, "투자");
+                    ps.setLong(5, amount);
+                    ps.setLong(6, closed ? 0 : currentValue);
+                    ps.setLong(7, closed ? 0 : profitLoss);
+                    ps.setBigDecimal(8, BigDecimal.valueOf(clamp(profitLoss * 100.0 / amount, -999.99, 999.99))
+                            .setScale(2, RoundingMode.HALF_UP));
+                    ps.setBigDecimal(9, closed ? BigDecimal.ZERO : units);
+                    ps.setDate(10, Date.valueOf(startDate));
+                    ps.setString(11, closed ? "CLOSED" : "ACTIVE");
+                    ps.setBoolean(12, !closed);
+                    ps.setTimestamp(13, Timestamp.valueOf(startDate.atStartOfDay()));
+                    ps.setTimestamp(14, now);
+                });
+    }
+
+    private void generateReceipts() {
+        insertInParallel("전자영수증", receiptCount,
+                "INSERT INTO electronic_receipts (customer_id, transaction_id, transaction_type, transaction_amount, " +
+                "branch_name, receipt_date, is_green_world_user, webhook_sent, webhook_sent_at, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                (ps, row, random) -> {
+                    // 최근 2년, 평일/영업시간에 몰린 거래 시각
+                    LocalDate date = today.minusDays(random.nextInt(730));
+                    if (date.getDayOfWeek().getValue() >= 6 && random.nextDouble() < 0.6) {
+                        date = date.minusDays(2);
+                    }
+                    int hour = (int) clamp(Math.round(13 + random.nextGaussian() * 3.5), 0, 23);
+                    LocalDateTime receiptDate = date.atTime(hour, random.nextInt(60), random.nextInt(60));
+                    boolean greenWorldUser = random.nextDouble() < 0.2;
+                    boolean webhookSent = greenWorldUser && random.nextDouble() < 0.95;
+                    Timestamp timestamp = Timestamp.valueOf(receiptDate);
+
+                    ps.setLong(1, skewedUser(random, 1.5));
+                    ps.setString(2, String.format("SYNRCPT%015d", row));
+                    ps.setString(3, pick(RECEIPT_TYPES, RECEIPT_TYPE_WEIGHTS, random));
+                    ps.setLong(4, roundTo(logNormal(random, 50_000, 1.3, 1_000, 500_000_000L), 100));
+                    ps.setString(5, pick(BRANCHES, BRANCH_WEIGHTS, random));
+                    ps.setTimestamp(6, timestamp);
+                    ps.setBoolean(7, greenWorldUser);
+                    ps.setBoolean(8, webhookSent);
+                    if (webhookSent) {
+                        ps.setTimestamp(9, Timestamp.valueOf(receiptDate.plusSeconds(1 + random.nextInt(30))));
+                    } else {
+                        ps.setNull(9, Types.TIMESTAMP);
+                    }
+                    ps.setTimestamp(10, timestamp);
+                    ps.setTimestamp(11, timestamp);
+                });
+    }
+
+    /**
+     * [0, count) 행을 배치 스레드 수만큼 나눠 각 구간을 batchSize 단위 JDBC 배치로 삽입한다
+     * 구간마다 시드에서 갈라진 난수 생성기를 쓰므로 스레드 간 경합 없이 재현 가능한 값이 만들어진다.
+     */
+    private void insertInParallel(String label, long count, String sql, RowWriter writer) {
+        if (count <= 0) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        int partitions = (int) Math.max(1, Math.min(batchTaskExecutor.getMaxPoolSize(), count / batchSize + 1));
+        long sliceSize = (count + partitions - 1) / partitions;
+        long logEvery = Math.max(batchSize, count / 10);
+        AtomicLong inserted = new AtomicLong();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            long from = partition * sliceSize;
+            long to = Math.min(count, from + sliceSize);
+            SplittableRandom random = new SplittableRandom(seed * 31 + label.hashCode() * 17L + partition);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (long batchFrom = from; batchFrom < to; batchFrom += batchSize) {
+                    int size = (int) Math.min(batchSize, to - batchFrom);
+                    long first = batchFrom;
+                    jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            writer.write(ps, first + i, random);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return size;
+                        }
+                    });
+                    long total = inserted.addAndGet(size);
+                    if (total / logEvery != (total - size) / logEvery) {
+                        log.info("{} 생성 중 - {}/{}", label, total, count);
+                    }
+                }
+            }, batchTaskExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("{} 생성 완료 - {}건, 소요: {}ms, {}건/s", label, count, elapsed, count * 1000 / elapsed);
+    }
+
+    // 난수의 거듭제곱으로 앞쪽 사용자에게 몰리게 고른다 (exponent가 1이면 균등)
+    private long skewedUser(SplittableRandom random, double exponent) {
+        return userIds[(int) (userIds.length * Math.pow(random.nextDouble(), exponent))];
+    }
+
+    private static long logNormal(SplittableRandom random, double median, double sigma, long min, long max) {
+        return clamp(Math.round(median * Math.exp(random.nextGaussian() * sigma)), min, max);
+    }
+
+    private static long roundTo(long value, long unit) {
+        return Math.max(unit, value / unit * unit);
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static <T> T pick(T[] values, double[] weights, SplittableRandom random) {
+        double target = random.nextDouble() * sum(weights);
+        for (int i = 0; i < values.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static double sum(double[] weights) {
+        double sum = 0;
+        for (double weight : weights) {
+            sum += weight;
+        }
+        return sum;
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date != null) {
+            ps.setDate(index, Date.valueOf(date));
+        } else {
+            ps.setNull(index, Types.DATE);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long row, SplittableRandom random) throws SQLException;
+    }
+}
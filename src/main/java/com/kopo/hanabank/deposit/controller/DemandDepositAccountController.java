@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.List;
@@ -35,10 +36,15 @@ public class DemandDepositAccountController {
         return ApiResponse.success("입출금 계좌가 성공적으로 생성되었습니다.", response);
     }
 
-    @Operation(summary = "사용자 입출금 계좌 목록 조회", description = "사용자의 모든 입출금 계좌를 조회합니다.")
+    @Operation(summary = "사용자 입출금 계좌 목록 조회",
+            description = "사용자의 모든 입출금 계좌를 조회합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
     @GetMapping("/user/{userId}")
     public ApiResponse<List<DemandDepositAccountResponse>> getUserAccounts(
-            @Parameter(description = "사용자 ID") @PathVariable Long userId) {
+            @Parameter(description = "사용자 ID") @PathVariable Long userId,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(demandDepositAccountService.getUserAccountsETag(userId))) {
+            return null;
+        }
         List<DemandDepositAccountResponse> responses = demandDepositAccountService.getUserAccounts(userId);
         return ApiResponse.success(responses);
     }
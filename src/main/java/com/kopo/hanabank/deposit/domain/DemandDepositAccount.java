@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -15,12 +16,16 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "demand_deposit_accounts")
+@DynamicUpdate
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 public class DemandDepositAccount extends DateTimeEntity {
 
+    // 누적이자 저장 단위 (1원 = 1,000,000)
+    public static final long ACCRUAL_UNITS_PER_WON = 1_000_000L;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -72,6 +77,17 @@ public class DemandDepositAccount extends DateTimeEntity {
     @Column(name = "last_transaction_date")
     private LocalDateTime lastTransactionDate;
 
+    // 이자 관련 필드들
+    @Column(name = "accrued_interest", nullable = false)
+    @Builder.Default
+    private Long accruedInterest = 0L; // 미지급 누적이자 (1/1,000,000원 단위)
+
+    @Column(name = "last_accrual_date")
+    private LocalDate lastAccrualDate; // 마지막 이자 계산일
+
+    @Column(name = "last_interest_posted_date")
+    private LocalDate lastInterestPostedDate; // 마지막 이자 지급일
+
     public DemandDepositAccount(User user, String accountNumber, String accountName,
                                AccountType accountType, LocalDate openDate, LocalDate maturityDate,
                                BigDecimal baseInterestRate) {
@@ -84,6 +100,7 @@ public class DemandDepositAccount extends DateTimeEntity {
         this.baseInterestRate = baseInterestRate;
         this.balance = 0L;
         this.availableBalance = 0L;
+        this.accruedInterest = 0L;
         this.status = AccountStatus.ACTIVE;
     }
 
@@ -121,6 +138,11 @@ public class DemandDepositAccount extends DateTimeEntity {
         this.isActive = true;
     }
 
+    // 미지급 누적이자 (원 단위, 원 미만 절사)
+    public Long getAccruedInterestWon() {
+        return this.accruedInterest / ACCRUAL_UNITS_PER_WON;
+    }
+
     // 잔액 업데이트 (관리자 기능)
     public void updateBalance(Long newBalance) {
         this.balance = newBalance;
@@ -27,6 +27,7 @@ public class DemandDepositAccountResponse {
     private LocalDate openDate;
     private LocalDate maturityDate;
     private BigDecimal baseInterestRate;
+    private Long accruedInterest;
     private String status;
     private String statusDescription;
     private Boolean isActive;
@@ -47,6 +48,7 @@ public class DemandDepositAccountResponse {
                 .openDate(account.getOpenDate())
                 .maturityDate(account.getMaturityDate())
                 .baseInterestRate(account.getBaseInterestRate())
+                .accruedInterest(account.getAccruedInterestWon())
                 .status(account.getStatus().name())
                 .statusDescription(account.getStatus().getDescription())
                 .isActive(account.getIsActive())
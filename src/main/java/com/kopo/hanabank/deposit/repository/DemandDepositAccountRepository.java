@@ -1,11 +1,16 @@
 package com.kopo.hanabank.deposit.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
 import com.kopo.hanabank.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +19,11 @@ public interface DemandDepositAccountRepository extends JpaRepository<DemandDepo
 
     List<DemandDepositAccount> findByUser(User user);
 
+    List<DemandDepositAccount> findByUserId(Long userId);
+
+    @Query("SELECT d FROM DemandDepositAccount d WHERE d.user.id = :userId AND d.isActive = true AND d.status = 'ACTIVE'")
+    List<DemandDepositAccount> findActiveAccountsByUserId(@Param("userId") Long userId);
+
     List<DemandDepositAccount> findByUserAndIsActiveTrue(User user);
 
     Optional<DemandDepositAccount> findByAccountNumber(String accountNumber);
@@ -22,4 +32,20 @@ public interface DemandDepositAccountRepository extends JpaRepository<DemandDepo
 
     @Query("SELECT d FROM DemandDepositAccount d WHERE d.user = :user AND d.isActive = true AND d.status = 'ACTIVE'")
     List<DemandDepositAccount> findActiveAccountsByUser(User user);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DemandDepositAccount d WHERE d.accountNumber = :accountNumber")
+    Optional<DemandDepositAccount> findForUpdateByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DemandDepositAccount d WHERE d.accountNumber IN :accountNumbers")
+    List<DemandDepositAccount> findForUpdateByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DemandDepositAccount d WHERE d.user.id IN :userIds " +
+           "AND d.isActive = true AND d.status = 'ACTIVE' ORDER BY d.id")
+    List<DemandDepositAccount> findForUpdateActiveByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT COUNT(d) AS count, MAX(d.modifiedAt) AS lastModifiedAt FROM DemandDepositAccount d WHERE d.user.id = :userId")
+    ModificationStamp findModificationStampByUserId(@Param("userId") Long userId);
 }
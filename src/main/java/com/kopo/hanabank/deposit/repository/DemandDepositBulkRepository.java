@@ -0,0 +1,71 @@
+package com.kopo.hanabank.deposit.repository;
+
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 입출금 계좌 일괄 개설용 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class DemandDepositBulkRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Set<String> findExistingAccountNumbers(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT account_number FROM demand_deposit_accounts WHERE account_number IN (:accountNumbers)",
+                Map.of("accountNumbers", accountNumbers), String.class));
+    }
+
+    /**
+     * userIds[i] 사용자에게 accountNumbers[i] 계좌를 잔액 0으로 개설한다
+     */
+    public void insertAccounts(List<Long> userIds, List<String> accountNumbers,
+                               DemandDepositAccount.AccountType accountType, String accountName,
+                               BigDecimal baseInterestRate, LocalDate openDate, LocalDateTime now) {
+        Date open = Date.valueOf(openDate);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(
+                "INSERT INTO demand_deposit_accounts (user_id, account_number, account_name, bank_code, account_type, " +
+                "balance, available_balance, open_date, base_interest_rate, status, is_active, accrued_interest, " +
+                "created_at, modified_at) VALUES (?, ?, ?, '081', ?, 0, 0, ?, ?, 'ACTIVE', TRUE, 0, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, userIds.get(i));
+                        ps.setString(2, accountNumbers.get(i));
+                        ps.setString(3, accountName);
+                        ps.setString(4, accountType.name());
+                        ps.setDate(5, open);
+                        ps.setBigDecimal(6, baseInterestRate);
+                        ps.setTimestamp(7, timestamp);
+                        ps.setTimestamp(8, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return userIds.size();
+                    }
+                });
+    }
+}
@@ -0,0 +1,116 @@
+package com.kopo.hanabank.deposit.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 입출금 계좌 이자 배치용 JDBC 저장소
+ * 엔티티를 로딩하지 않고 id 순 키셋 조회와 배치 업데이트로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DemandDepositInterestRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전체 계좌 id 범위 [min, max], 계좌가 없으면 null
+     */
+    public long[] findIdRange() {
+        return jdbcTemplate.query("SELECT MIN(id), MAX(id) FROM demand_deposit_accounts", rs -> {
+            if (!rs.next() || rs.getObject(1) == null) {
+                return null;
+            }
+            return new long[]{rs.getLong(1), rs.getLong(2)};
+        });
+    }
+
+    /**
+     * (afterId, maxId] 범위에서 해당 일자 이자가 아직 계산되지 않은 활성 계좌를 id 순으로 최대 limit건 읽는다
+     * 마지막 이자 계산일도 함께 넘겨 배치가 빠진 날만큼 이어서 계산할 수 있게 한다.
+     * 잔액/금리가 0인 계좌도 읽어 이자 계산일을 넘겨 둔다 (건너뛰면 나중에 입금된 잔액으로 그동안의 이자가 붙는다).
+     */
+    public void streamAccrualTargets(long afterId, long maxId, LocalDate accrualDate, int limit,
+                                     AccrualTargetHandler handler) {
+        jdbcTemplate.query(
+                "SELECT id, balance, ROUND(base_interest_rate * 100) AS rate_key, last_accrual_date " +
+                "FROM demand_deposit_accounts " +
+                "WHERE id > ? AND id <= ? AND status = 'ACTIVE' AND is_active = TRUE " +
+                "AND (last_accrual_date IS NULL OR last_accrual_date < ?) " +
+                "ORDER BY id LIMIT ?",
+                rs -> {
+                    Date lastAccrualDate = rs.getDate(4);
+                    handler.handle(rs.getLong(1), rs.getLong(2), rs.getLong(3),
+                            lastAccrualDate != null ? lastAccrualDate.toLocalDate() : null);
+                },
+                afterId, maxId, Date.valueOf(accrualDate), limit);
+    }
+
+    /**
+     * 일할 이자 누적 (같은 일자에 다시 실행되어도 last_accrual_date 조건으로 중복 누적되지 않는다)
+     * 조회 이후 다른 실행이 먼저 반영했다면 조회 시점의 last_accrual_date와 달라 갱신되지 않는다.
+     */
+    @Transactional
+    public void applyAccruals(long[] ids, long[] accruals, LocalDate[] lastAccrualDates, int size,
+                              LocalDate accrualDate) {
+        Date date = Date.valueOf(accrualDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE demand_deposit_accounts SET accrued_interest = accrued_interest + ?, " +
+                "last_accrual_date = ?, modified_at = ? " +
+                "WHERE id = ? AND (last_accrual_date = ? OR (last_accrual_date IS NULL AND ? = 1))",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setLong(1, accruals[i]);
+                        ps.setDate(2, date);
+                        ps.setTimestamp(3, now);
+                        ps.setLong(4, ids[i]);
+                        LocalDate lastAccrualDate = lastAccrualDates[i];
+                        ps.setDate(5, lastAccrualDate != null ? Date.valueOf(lastAccrualDate) : date);
+                        ps.setInt(6, lastAccrualDate == null ? 1 : 0);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                });
+    }
+
+    /**
+     * [fromId, toId] 범위의 누적이자 중 원 단위 금액을 잔액에 지급하고 원 미만 금액은 이월한다
+     * (MySQL은 SET 절을 왼쪽부터 평가하므로 accrued_interest 갱신은 마지막에 둔다)
+     */
+    @Transactional
+    public int postAccruedInterest(long fromId, long toId, long unitsPerWon, LocalDate postingDate) {
+        LocalDate monthStart = postingDate.withDayOfMonth(1);
+
+        return jdbcTemplate.update(
+                "UPDATE demand_deposit_accounts SET " +
+                "balance = balance + FLOOR(accrued_interest / ?), " +
+                "available_balance = available_balance + FLOOR(accrued_interest / ?), " +
+                "last_interest_posted_date = ?, modified_at = ?, " +
+                "accrued_interest = MOD(accrued_interest, ?) " +
+                "WHERE id BETWEEN ? AND ? AND status = 'ACTIVE' AND accrued_interest >= ? " +
+                "AND (last_interest_posted_date IS NULL OR last_interest_posted_date < ?)",
+                unitsPerWon, unitsPerWon, Date.valueOf(postingDate), Timestamp.valueOf(LocalDateTime.now()),
+                unitsPerWon, fromId, toId, unitsPerWon, Date.valueOf(monthStart));
+    }
+
+    @FunctionalInterface
+    public interface AccrualTargetHandler {
+        void handle(long id, long balance, long rateKey, LocalDate lastAccrualDate) throws SQLException;
+    }
+}
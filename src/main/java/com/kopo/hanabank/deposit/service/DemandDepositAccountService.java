@@ -28,17 +28,25 @@ public class DemandDepositAccountService {
     private final UserService userService;
 
     public List<DemandDepositAccountResponse> getUserAccounts(Long userId) {
-        User user = userService.getUserById(userId);
-        List<DemandDepositAccount> accounts = demandDepositAccountRepository.findByUser(user);
+        userService.validateUser(userId);
+        List<DemandDepositAccount> accounts = demandDepositAccountRepository.findByUserId(userId);
 
         return accounts.stream()
                 .map(DemandDepositAccountResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자 계좌 목록의 약한 ETag, 계좌 행 수와 최종 수정 시각만 집계하므로 목록을 읽지 않는다
+     */
+    public String getUserAccountsETag(Long userId) {
+        return demandDepositAccountRepository.findModificationStampByUserId(userId)
+                .toETag("deposit-accounts-" + userId);
+    }
+
     public List<DemandDepositAccountResponse> getActiveUserAccounts(Long userId) {
-        User user = userService.getUserById(userId);
-        List<DemandDepositAccount> accounts = demandDepositAccountRepository.findActiveAccountsByUser(user);
+        userService.validateUser(userId);
+        List<DemandDepositAccount> accounts = demandDepositAccountRepository.findActiveAccountsByUserId(userId);
 
         return accounts.stream()
                 .map(DemandDepositAccountResponse::from)
@@ -54,7 +62,7 @@ public class DemandDepositAccountService {
 
     @Transactional
     public DemandDepositAccountResponse createAccount(DemandDepositAccountCreateRequest request) {
-        User user = userService.getUserById(request.getUserId());
+        User user = userService.getUserReference(request.getUserId());
 
         // 계좌번호 생성
         String accountNumber = generateAccountNumber();
@@ -76,14 +84,14 @@ public class DemandDepositAccountService {
 
         account = demandDepositAccountRepository.save(account);
 
-        log.info("입출금 계좌 생성 완료 - 계좌번호: {}, 사용자: {}", accountNumber, user.getName());
+        log.info("입출금 계좌 생성 완료 - 계좌번호: {}, 사용자ID: {}", accountNumber, request.getUserId());
 
         return DemandDepositAccountResponse.from(account);
     }
 
     @Transactional
     public DemandDepositAccountResponse deposit(String accountNumber, Long amount) {
-        DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accountNumber)
+        DemandDepositAccount account = demandDepositAccountRepository.findForUpdateByAccountNumber(accountNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
 
         if (!account.getIsActive() || account.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
@@ -100,7 +108,7 @@ public class DemandDepositAccountService {
 
     @Transactional
     public DemandDepositAccountResponse withdraw(String accountNumber, Long amount) {
-        DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accountNumber)
+        DemandDepositAccount account = demandDepositAccountRepository.findForUpdateByAccountNumber(accountNumber)
                 .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
 
         if (!account.getIsActive() || account.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
@@ -132,7 +140,7 @@ public class DemandDepositAccountService {
         log.info("계좌 해지 완료 - 계좌번호: {}", accountNumber);
     }
 
-    private String generateAccountNumber() {
+    static String generateAccountNumber() {
         return "081" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
     }
 }
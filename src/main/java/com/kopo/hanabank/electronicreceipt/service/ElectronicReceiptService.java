@@ -179,7 +179,7 @@ public class ElectronicReceiptService {
         log.info("미전송 웹훅 재전송 완료: {}건", unsentReceipts.size());
     }
 
-    private String generateTransactionId() {
+    static String generateTransactionId() {
         LocalDateTime now = LocalDateTime.now();
         String dateTime = now.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
         String random = String.format("%04d", (int) (Math.random() * 10000));
@@ -10,6 +10,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -35,7 +37,8 @@ public class BankIntegrationController {
         description = "다른 하나금융그룹 관계사에서 고객 정보를 요청할 때 사용하는 내부 API입니다."
     )
     public ResponseEntity<ApiResponse<BankCustomerInfoResponse>> getCustomerInfo(
-            @RequestBody Map<String, String> request) {
+            @RequestBody Map<String, String> request,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         try {
             // customerInfoToken에서 CI 추출
@@ -43,9 +46,17 @@ public class BankIntegrationController {
             String ci = extractCiFromCustomerToken(customerInfoToken);
             log.info("추출된 CI: {}", maskCi(ci));
 
+            // POST는 WebRequest.checkNotModified가 412로 처리하므로 If-None-Match를 직접 비교한다
+            String eTag = bankIntegrationService.getCustomerInfoETag(customerInfoToken);
+            if (eTagMatches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+
             BankCustomerInfoResponse response = bankIntegrationService.getCustomerInfo(customerInfoToken, request.get("requestingService"));
 
-            return ResponseEntity.ok(ApiResponse.success("고객 정보 조회가 완료되었습니다.", response));
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .body(ApiResponse.success("고객 정보 조회가 완료되었습니다.", response));
             
         } catch (Exception e) {
             log.error("고객 정보 조회 실패: {}", e.getMessage(), e);
@@ -227,6 +238,27 @@ public class BankIntegrationController {
         return customerToken.substring(0, 8) + "****" + customerToken.substring(customerToken.length() - 8);
     }
 
+    // 약한 비교 (W/ 접두사 무시), 쉼표로 나열된 ETag와 * 를 허용한다
+    private boolean eTagMatches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        String current = eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*")) {
+                return true;
+            }
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private String maskCi(String ci) {
         if (ci == null || ci.length() < 8) {
             return "****";
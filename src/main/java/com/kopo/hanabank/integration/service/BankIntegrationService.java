@@ -1,5 +1,6 @@
 package com.kopo.hanabank.integration.service;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.common.exception.BusinessException;
 import com.kopo.hanabank.common.exception.ErrorCode;
 import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
@@ -17,7 +18,9 @@ import com.kopo.hanabank.savings.dto.SavingsAccountResponse;
 import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
 import com.kopo.hanabank.savings.service.SavingsService;
 import com.kopo.hanabank.user.domain.User;
+import com.kopo.hanabank.user.domain.UserSnapshot;
 import com.kopo.hanabank.user.repository.UserRepository;
+import com.kopo.hanabank.user.service.UserService;
 import java.util.Base64;
 import com.kopo.hanabank.electronicreceipt.repository.ElectronicReceiptRepository;
 import com.kopo.hanabank.electronicreceipt.domain.ElectronicReceipt;
@@ -43,6 +46,7 @@ import java.util.Objects;
 public class BankIntegrationService {
 
     private final UserRepository userRepository;
+    private final UserService userService;
     private final SavingsAccountRepository savingsAccountRepository;
     private final DemandDepositAccountRepository demandDepositAccountRepository;
     private final LoanAccountRepository loanAccountRepository;
@@ -84,6 +88,24 @@ public class BankIntegrationService {
         }
     }
 
+    /**
+     * 고객 정보 응답의 약한 ETag
+     * 사용자(캐시된 스냅샷)와 응답에 포함되는 계좌(입출금/적금/대출/투자) 행의 수와 최종 수정 시각으로만 계산하므로 계좌 목록을 읽지 않는다.
+     */
+    public String getCustomerInfoETag(String customerInfoToken) {
+        String ci = new String(Base64.getDecoder().decode(customerInfoToken));
+        UserSnapshot user = userService.getUserByCi(ci);
+
+        Long userId = user.id();
+        ModificationStamp stamp = ModificationStamp.combine(
+                ModificationStamp.of(1, user.lastModifiedAt()),
+                demandDepositAccountRepository.findModificationStampByUserId(userId),
+                savingsAccountRepository.findModificationStampByUserId(userId),
+                loanAccountRepository.findModificationStampByUserId(userId),
+                investmentAccountRepository.findModificationStampByUserId(userId));
+        return stamp.toETag("customer-" + userId);
+    }
+
     public IntegratedFinancialProductsResponse getIntegratedProducts(String customerInfoToken, String requestingService) {
         try {
             log.info("통합 금융 상품 조회 시작 - 고객정보토큰: {}, 요청서비스: {}", customerInfoToken, requestingService);
@@ -426,7 +448,7 @@ public class BankIntegrationService {
                     .findByCustomerIdOrderByReceiptDateDesc(user.getId());
 
             List<Map<String, Object>> result = receipts.stream()
-                    .map(this::convertToMap)
+                    .map(BankIntegrationService::convertToMap)
                     .collect(Collectors.toList());
 
             return result;
@@ -436,7 +458,7 @@ public class BankIntegrationService {
         }
     }
 
-    private Map<String, Object> convertToMap(ElectronicReceipt receipt) {
+    static Map<String, Object> convertToMap(ElectronicReceipt receipt) {
         Map<String, Object> map = new HashMap<>();
         map.put("receiptId", receipt.getReceiptId());
         map.put("customerId", receipt.getCustomerId());
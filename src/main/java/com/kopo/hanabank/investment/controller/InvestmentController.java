@@ -1,14 +1,26 @@
 package com.kopo.hanabank.investment.controller;
 
+import com.kopo.hanabank.common.catalog.CatalogResponseCache;
 import com.kopo.hanabank.common.dto.ApiResponse;
 import com.kopo.hanabank.investment.domain.InvestmentAccount;
 import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import com.kopo.hanabank.investment.domain.InvestmentRevaluation;
+import com.kopo.hanabank.investment.dto.InvestmentProjectionResponse;
+import com.kopo.hanabank.investment.dto.InvestmentRevaluationResponse;
+import com.kopo.hanabank.investment.dto.PortfolioResponse;
+import com.kopo.hanabank.investment.service.InvestmentProductCatalog;
+import com.kopo.hanabank.investment.service.InvestmentProjectionService;
+import com.kopo.hanabank.investment.service.InvestmentRevaluationService;
 import com.kopo.hanabank.investment.service.InvestmentService;
+import com.kopo.hanabank.investment.service.PortfolioService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Tag(name = "투자 관리", description = "투자 상품 및 계좌 관련 API")
@@ -18,12 +30,25 @@ import java.util.List;
 public class InvestmentController {
 
     private final InvestmentService investmentService;
+    private final InvestmentProductCatalog investmentProductCatalog;
+    private final CatalogResponseCache catalogResponseCache;
+    private final InvestmentRevaluationService investmentRevaluationService;
+    private final InvestmentProjectionService investmentProjectionService;
+    private final PortfolioService portfolioService;
 
     @Operation(summary = "투자 상품 목록 조회", description = "모든 활성 투자 상품을 조회합니다.")
     @GetMapping("/products")
-    public ApiResponse<List<InvestmentProduct>> getAllInvestmentProducts() {
-        List<InvestmentProduct> products = investmentService.getAllInvestmentProducts();
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> getAllInvestmentProducts(WebRequest webRequest) {
+        return catalogResponseCache.respond(investmentProductCatalog, "list", null, webRequest,
+                () -> ApiResponse.success(investmentService.getAllInvestmentProducts()));
+    }
+
+    @Operation(summary = "투자 상품 검색", description = "상품명, 설명에서 키워드로 투자 상품을 검색해 관련도순으로 조회합니다.")
+    @GetMapping("/products/search")
+    public ResponseEntity<byte[]> searchInvestmentProducts(@RequestParam String keyword,
+                                                           WebRequest webRequest) {
+        return catalogResponseCache.respondSearch(investmentProductCatalog, keyword, webRequest,
+                () -> ApiResponse.success(investmentService.searchInvestmentProducts(keyword)));
     }
 
     @Operation(summary = "투자 상품 조회", description = "ID로 투자 상품을 조회합니다.")
@@ -33,6 +58,30 @@ public class InvestmentController {
         return ApiResponse.success(product);
     }
 
+    @Operation(summary = "투자 상품 평가금액 전망", description = "기대수익률, 위험등급, 운용보수로 몬테카를로 시뮬레이션한 기간별 평가금액 백분위 구간을 조회합니다. 경로 수는 1,000/10,000/100,000 중 요청 값 이상인 가장 작은 값으로 맞춥니다.")
+    @GetMapping("/products/{id}/projection")
+    public ApiResponse<InvestmentProjectionResponse> getProjection(@PathVariable Long id,
+                                                                   @RequestParam Long amount,
+                                                                   @RequestParam Integer horizonMonths,
+                                                                   @RequestParam(required = false) Integer paths) {
+        return ApiResponse.success(investmentProjectionService.project(id, amount, horizonMonths, paths));
+    }
+
+    @Operation(summary = "투자 상품 기준가 갱신", description = "상품 기준가를 갱신하고 해당 상품의 모든 활성 투자 계좌를 재평가합니다.")
+    @PostMapping("/products/{id}/nav")
+    public ApiResponse<InvestmentRevaluationResponse> updateNav(@PathVariable Long id,
+                                                                @RequestParam BigDecimal nav) {
+        InvestmentRevaluationResponse response = investmentRevaluationService.revalue(
+                id, nav, InvestmentRevaluation.Source.MANUAL);
+        return ApiResponse.success("기준가가 갱신되었습니다.", response);
+    }
+
+    @Operation(summary = "투자 상품 재평가 이력 조회", description = "상품의 최근 기준가 재평가 이력을 조회합니다.")
+    @GetMapping("/products/{id}/revaluations")
+    public ApiResponse<List<InvestmentRevaluationResponse>> getRevaluationHistory(@PathVariable Long id) {
+        return ApiResponse.success(investmentRevaluationService.getRevaluationHistory(id));
+    }
+
     @Operation(summary = "투자 계좌 생성", description = "새로운 투자 계좌를 생성합니다.")
     @PostMapping("/accounts")
     public ApiResponse<InvestmentAccount> createInvestmentAccount(@RequestParam Long userId, 
@@ -49,6 +98,12 @@ public class InvestmentController {
         return ApiResponse.success(accounts);
     }
 
+    @Operation(summary = "사용자 투자 포트폴리오 조회", description = "사용자의 총 수익률, 상품 유형별 비중, 가중 위험등급을 조회합니다.")
+    @GetMapping("/portfolio/user/{userId}")
+    public ApiResponse<PortfolioResponse> getPortfolio(@PathVariable Long userId) {
+        return ApiResponse.success(portfolioService.getPortfolio(userId));
+    }
+
     @Operation(summary = "투자 계좌 조회", description = "계좌번호로 투자 계좌를 조회합니다.")
     @GetMapping("/accounts/{accountNumber}")
     public ApiResponse<InvestmentAccount> getInvestmentAccount(@PathVariable String accountNumber) {
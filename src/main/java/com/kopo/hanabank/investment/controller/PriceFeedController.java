@@ -0,0 +1,40 @@
+package com.kopo.hanabank.investment.controller;
+
+import com.kopo.hanabank.common.dto.ApiResponse;
+import com.kopo.hanabank.investment.dto.PriceFeedStatusResponse;
+import com.kopo.hanabank.investment.dto.PriceTickRequest;
+import com.kopo.hanabank.investment.dto.PriceTickResponse;
+import com.kopo.hanabank.investment.service.PriceFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "투자 시세 수신", description = "투자 상품 시세 틱 수신 및 재평가 API")
+@RestController
+@RequestMapping("/investments/prices")
+@RequiredArgsConstructor
+public class PriceFeedController {
+
+    private final PriceFeedService priceFeedService;
+
+    @Operation(summary = "시세 틱 수신", description = "상품 기준가 틱을 수신합니다. 틱은 주기마다 상품별 최신 시세로 합쳐 재평가에 반영됩니다.")
+    @PostMapping("/ticks")
+    public ApiResponse<PriceTickResponse> publishTicks(@Valid @RequestBody PriceTickRequest request) {
+        return ApiResponse.success(priceFeedService.accept(request));
+    }
+
+    @Operation(summary = "시세 파일 재생", description = "설정된 시세 파일을 시세 틱으로 재생합니다.")
+    @PostMapping("/replay")
+    public ApiResponse<Void> replay() {
+        priceFeedService.replay();
+        return ApiResponse.success("시세 파일 재생을 시작했습니다.", null);
+    }
+
+    @Operation(summary = "시세 수신 상태 조회", description = "시세 버퍼 적재 현황과 최근 반영 결과를 조회합니다.")
+    @GetMapping("/status")
+    public ApiResponse<PriceFeedStatusResponse> getStatus() {
+        return ApiResponse.success(priceFeedService.getStatus());
+    }
+}
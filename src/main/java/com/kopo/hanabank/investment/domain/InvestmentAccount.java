@@ -9,10 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "investment_accounts")
+@Table(name = "investment_accounts",
+        indexes = @Index(name = "idx_investment_product_status", columnList = "product_id, status"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class InvestmentAccount extends DateTimeEntity {
@@ -47,6 +49,10 @@ public class InvestmentAccount extends DateTimeEntity {
     @Column(name = "profit_loss_rate", precision = 5, scale = 2)
     private BigDecimal profitLossRate = BigDecimal.ZERO;
 
+    // 보유 좌수 (평가금액 = 좌수 x 기준가), 좌수 도입 전 계좌는 첫 재평가 때 직전 기준가로 환산한다
+    @Column(name = "units", precision = 24, scale = 6)
+    private BigDecimal units;
+
     @Column(name = "start_date", nullable = false)
     private LocalDate startDate;
 
@@ -68,11 +74,13 @@ public class InvestmentAccount extends DateTimeEntity {
         this.currentValue = investmentAmount;
         this.profitLoss = 0L;
         this.profitLossRate = BigDecimal.ZERO;
+        this.units = product != null ? toUnits(investmentAmount, product.getNav()) : null;
         this.startDate = startDate;
         this.status = AccountStatus.ACTIVE;
     }
 
     public void invest(Long amount) {
+        this.units = getUnits().add(toUnits(amount, this.product.getNav()));
         this.investmentAmount += amount;
         this.currentValue += amount;
     }
@@ -81,10 +89,26 @@ public class InvestmentAccount extends DateTimeEntity {
         if (this.currentValue < amount) {
             throw new IllegalArgumentException("투자금액이 부족합니다.");
         }
+        this.units = getUnits().subtract(toUnits(amount, this.product.getNav())).max(BigDecimal.ZERO);
         this.currentValue -= amount;
     }
 
+    public BigDecimal getUnits() {
+        if (this.units == null) {
+            return toUnits(this.currentValue, this.product.getNav());
+        }
+        return this.units;
+    }
+
+    private static BigDecimal toUnits(Long amount, BigDecimal nav) {
+        return BigDecimal.valueOf(amount).divide(nav, 6, RoundingMode.DOWN);
+    }
+
     public void updateCurrentValue(Long currentValue) {
+        // 수동 평가금액을 현재 기준가로 환산한 좌수로 맞춰 다음 기준가 재평가에서도 유지되게 한다
+        if (this.product != null) {
+            this.units = toUnits(currentValue, this.product.getNav());
+        }
         this.currentValue = currentValue;
         this.profitLoss = this.currentValue - this.investmentAmount;
         if (this.investmentAmount > 0) {
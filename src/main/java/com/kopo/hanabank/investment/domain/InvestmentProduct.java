@@ -8,6 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "investment_products")
@@ -15,6 +16,8 @@ import java.math.BigDecimal;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class InvestmentProduct extends DateTimeEntity {
 
+    public static final BigDecimal INITIAL_NAV = BigDecimal.valueOf(1000);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -47,6 +50,13 @@ public class InvestmentProduct extends DateTimeEntity {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // 기준가 (1좌당 가격), 기준가 도입 전 상품은 최초 기준가 1,000원으로 본다
+    @Column(name = "nav", precision = 19, scale = 4)
+    private BigDecimal nav;
+
+    @Column(name = "nav_updated_at")
+    private LocalDateTime navUpdatedAt;
+
     @Builder
     public InvestmentProduct(Long id, String name, String description, ProductType productType,
                            BigDecimal expectedReturnRate, Integer riskLevel,
@@ -92,6 +102,15 @@ public class InvestmentProduct extends DateTimeEntity {
         return this.isActive;
     }
 
+    public BigDecimal getNav() {
+        return this.nav != null ? this.nav : INITIAL_NAV;
+    }
+
+    public void updateNav(BigDecimal nav, LocalDateTime navUpdatedAt) {
+        this.nav = nav;
+        this.navUpdatedAt = navUpdatedAt;
+    }
+
     public enum ProductType {
         STOCK_FUND("주식형펀드"),
         BOND_FUND("채권형펀드"),
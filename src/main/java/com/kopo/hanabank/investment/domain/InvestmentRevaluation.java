@@ -0,0 +1,84 @@
+package com.kopo.hanabank.investment.domain;
+
+import com.kopo.hanabank.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 기준가 재평가 이력 (상품별 1건)
+ */
+@Entity
+@Table(name = "investment_revaluations",
+        indexes = @Index(name = "idx_investment_revaluation_product", columnList = "product_id, revalued_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class InvestmentRevaluation extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "previous_nav", nullable = false, precision = 19, scale = 4)
+    private BigDecimal previousNav;
+
+    @Column(name = "nav", nullable = false, precision = 19, scale = 4)
+    private BigDecimal nav;
+
+    @Column(name = "account_count", nullable = false)
+    private Integer accountCount;
+
+    @Column(name = "total_value", nullable = false)
+    private Long totalValue;
+
+    @Column(name = "total_profit_loss", nullable = false)
+    private Long totalProfitLoss;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    private Source source;
+
+    @Column(name = "revalued_at", nullable = false)
+    private LocalDateTime revaluedAt;
+
+    @Column(name = "elapsed_millis", nullable = false)
+    private Long elapsedMillis;
+
+    @Builder
+    public InvestmentRevaluation(Long productId, BigDecimal previousNav, BigDecimal nav, Integer accountCount,
+                                 Long totalValue, Long totalProfitLoss, Source source,
+                                 LocalDateTime revaluedAt, Long elapsedMillis) {
+        this.productId = productId;
+        this.previousNav = previousNav;
+        this.nav = nav;
+        this.accountCount = accountCount;
+        this.totalValue = totalValue;
+        this.totalProfitLoss = totalProfitLoss;
+        this.source = source;
+        this.revaluedAt = revaluedAt;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public enum Source {
+        MANUAL("기준가 직접 입력"),
+        PRICE_FEED("시세 수신");
+
+        private final String description;
+
+        Source(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
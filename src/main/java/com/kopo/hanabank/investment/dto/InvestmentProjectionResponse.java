@@ -0,0 +1,39 @@
+package com.kopo.hanabank.investment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class InvestmentProjectionResponse {
+    private Long productId;
+    private String productName;
+    private Long amount;
+    private Integer horizonMonths;
+    private Integer paths;
+    // 운용보수 차감 후 연 기대수익률(%)
+    private BigDecimal netExpectedReturnRate;
+    // 연 변동성(%)
+    private BigDecimal volatility;
+    // 만기 평가금액이 투자금보다 작을 확률(%)
+    private BigDecimal lossProbability;
+    private List<Band> bands;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Band {
+        private Integer month;
+        private Long p5;
+        private Long p25;
+        private Long p50;
+        private Long p75;
+        private Long p95;
+        private Long mean;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kopo.hanabank.investment.dto;
+
+import com.kopo.hanabank.investment.domain.InvestmentRevaluation;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+public class InvestmentRevaluationResponse {
+    private Long productId;
+    private BigDecimal previousNav;
+    private BigDecimal nav;
+    private Integer accountCount;
+    private Long totalValue;
+    private Long totalProfitLoss;
+    private String source;
+    private LocalDateTime revaluedAt;
+    private Long elapsedMillis;
+
+    public InvestmentRevaluationResponse(InvestmentRevaluation revaluation) {
+        this.productId = revaluation.getProductId();
+        this.previousNav = revaluation.getPreviousNav();
+        this.nav = revaluation.getNav();
+        this.accountCount = revaluation.getAccountCount();
+        this.totalValue = revaluation.getTotalValue();
+        this.totalProfitLoss = revaluation.getTotalProfitLoss();
+        this.source = revaluation.getSource().getDescription();
+        this.revaluedAt = revaluation.getRevaluedAt();
+        this.elapsedMillis = revaluation.getElapsedMillis();
+    }
+}
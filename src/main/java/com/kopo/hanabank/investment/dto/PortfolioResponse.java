@@ -0,0 +1,38 @@
+package com.kopo.hanabank.investment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PortfolioResponse {
+    private Long userId;
+    private Long accountCount;
+    private Long totalInvestment;
+    private Long totalValue;
+    private Long totalProfitLoss;
+    // 총 수익률(%)
+    private BigDecimal totalReturnRate;
+    // 평가금액 가중 평균 위험등급 (위험등급이 없는 상품 제외)
+    private BigDecimal weightedRiskLevel;
+    private List<Allocation> allocations;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Allocation {
+        private String productType;
+        private String productTypeName;
+        private Long accountCount;
+        private Long investmentAmount;
+        private Long currentValue;
+        private Long profitLoss;
+        // 평가금액 비중(%)
+        private BigDecimal weight;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kopo.hanabank.investment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class PriceFeedStatusResponse {
+    private int bufferCapacity;
+    private long pendingTicks;
+    private long publishedTicks;
+    private long droppedTicks;
+    private boolean replaying;
+    private LocalDateTime lastFlushAt;
+    private int lastFlushTicks;
+    private int lastFlushProducts;
+    private int lastFlushRevaluations;
+    private long totalRevaluations;
+    private long staleTicks;
+}
@@ -0,0 +1,34 @@
+package com.kopo.hanabank.investment.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class PriceTickRequest {
+
+    @NotEmpty(message = "시세 틱은 필수입니다.")
+    private List<@Valid Tick> ticks;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Tick {
+
+        @NotNull(message = "상품 ID는 필수입니다.")
+        private Long productId;
+
+        @NotNull(message = "기준가는 필수입니다.")
+        @Positive(message = "기준가는 양수여야 합니다.")
+        private BigDecimal nav;
+
+        // 시세 발생 시각(epoch ms), 비어 있으면 수신 시각
+        private Long timestamp;
+    }
+}
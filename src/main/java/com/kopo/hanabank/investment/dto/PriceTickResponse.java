@@ -0,0 +1,11 @@
+package com.kopo.hanabank.investment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PriceTickResponse {
+    private int accepted;
+    private int dropped;
+}
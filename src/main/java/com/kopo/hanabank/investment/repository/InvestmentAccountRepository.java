@@ -1,8 +1,15 @@
 package com.kopo.hanabank.investment.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.investment.domain.InvestmentAccount;
+import com.kopo.hanabank.investment.domain.InvestmentProduct;
 import com.kopo.hanabank.user.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,15 +19,48 @@ import java.util.Optional;
 public interface InvestmentAccountRepository extends JpaRepository<InvestmentAccount, Long> {
     
     List<InvestmentAccount> findByUser(User user);
+
+    // 응답 변환에 쓰는 사용자/상품을 함께 읽는다
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<InvestmentAccount> findByUserId(Long userId);
     
     List<InvestmentAccount> findByUserAndStatus(User user, InvestmentAccount.AccountStatus status);
     
     Optional<InvestmentAccount> findByAccountNumber(String accountNumber);
     
     boolean existsByAccountNumber(String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM InvestmentAccount a WHERE a.accountNumber = :accountNumber")
+    Optional<InvestmentAccount> findForUpdateByAccountNumber(@Param("accountNumber") String accountNumber);
     
-}
 
+    // 사용자 포트폴리오 집계 (활성 계좌를 상품 단위로 합산)
+    @Query("SELECT p.id AS productId, p.productType AS productType, p.riskLevel AS riskLevel, " +
+           "COUNT(a) AS accountCount, SUM(a.investmentAmount) AS investmentAmount, " +
+           "SUM(a.currentValue) AS currentValue, SUM(a.profitLoss) AS profitLoss " +
+           "FROM InvestmentAccount a JOIN a.product p " +
+           "WHERE a.user.id = :userId AND a.status = :status " +
+           "GROUP BY p.id, p.productType, p.riskLevel")
+    List<ProductHolding> aggregateHoldings(@Param("userId") Long userId,
+                                           @Param("status") InvestmentAccount.AccountStatus status);
+
+    interface ProductHolding {
+        Long getProductId();
+
+        InvestmentProduct.ProductType getProductType();
 
+        Integer getRiskLevel();
 
+        Long getAccountCount();
 
+        Long getInvestmentAmount();
+
+        Long getCurrentValue();
+
+        Long getProfitLoss();
+    }
+
+    @Query("SELECT COUNT(i) AS count, MAX(i.modifiedAt) AS lastModifiedAt FROM InvestmentAccount i WHERE i.user.id = :userId")
+    ModificationStamp findModificationStampByUserId(@Param("userId") Long userId);
+}
@@ -1,10 +1,16 @@
 package com.kopo.hanabank.investment.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface InvestmentProductRepository extends JpaRepository<InvestmentProduct, Long> {
@@ -16,16 +22,11 @@ public interface InvestmentProductRepository extends JpaRepository<InvestmentPro
     List<InvestmentProduct> findByIsActiveTrueAndRiskLevel(Integer riskLevel);
     
     List<InvestmentProduct> findByIsActiveTrueAndRiskLevelLessThanEqual(Integer maxRiskLevel);
-}
-
-
-
-
-
-
-
-
-
-
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM InvestmentProduct p WHERE p.id = :id")
+    Optional<InvestmentProduct> findForUpdateById(@Param("id") Long id);
 
+    @Query("SELECT COUNT(p) AS count, MAX(p.modifiedAt) AS lastModifiedAt FROM InvestmentProduct p")
+    ModificationStamp findModificationStamp();
+}
@@ -0,0 +1,13 @@
+package com.kopo.hanabank.investment.repository;
+
+import com.kopo.hanabank.investment.domain.InvestmentRevaluation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface InvestmentRevaluationRepository extends JpaRepository<InvestmentRevaluation, Long> {
+
+    List<InvestmentRevaluation> findTop20ByProductIdOrderByRevaluedAtDesc(Long productId);
+}
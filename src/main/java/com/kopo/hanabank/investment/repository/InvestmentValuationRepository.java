@@ -0,0 +1,63 @@
+package com.kopo.hanabank.investment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 투자 계좌 기준가 재평가용 JDBC 저장소
+ * 엔티티를 로딩하지 않고 상품 단위 UPDATE 한 번으로 보유 계좌 전체의 평가금액/평가손익/수익률을 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InvestmentValuationRepository {
+
+    // 좌수 도입 전 계좌는 직전 기준가로 좌수를 환산한다
+    private static final String UNITS = "COALESCE(units, current_value / ?)";
+    private static final String VALUE = "FLOOR(" + UNITS + " * ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 상품의 활성 계좌 전체를 새 기준가로 재평가
+     * 모든 SET 항목을 기존 컬럼 값으로만 계산하므로 SET 절 평가 순서와 무관하게 같은 결과가 나온다.
+     * 수익률 컬럼(DECIMAL(5,2)) 범위를 넘는 값은 ±999.99로 제한한다.
+     *
+     * @return 재평가된 계좌 수
+     */
+    public int revalue(Long productId, BigDecimal previousNav, BigDecimal nav, LocalDateTime revaluedAt) {
+        return jdbcTemplate.update(
+                "UPDATE investment_accounts SET " +
+                "units = " + UNITS + ", " +
+                "current_value = " + VALUE + ", " +
+                "profit_loss = " + VALUE + " - investment_amount, " +
+                "profit_loss_rate = CASE WHEN investment_amount > 0 THEN " +
+                "LEAST(999.99, GREATEST(-999.99, ROUND((" + VALUE + " - investment_amount) * 100 / investment_amount, 2))) " +
+                "ELSE 0 END, " +
+                "modified_at = ? " +
+                "WHERE product_id = ? AND status = 'ACTIVE'",
+                previousNav,
+                previousNav, nav,
+                previousNav, nav,
+                previousNav, nav,
+                Timestamp.valueOf(revaluedAt), productId);
+    }
+
+    /**
+     * 상품의 활성 계좌 평가금액/평가손익 합계 (재평가 이력 기록용)
+     */
+    public long[] sumValuation(Long productId) {
+        return jdbcTemplate.query(
+                "SELECT COALESCE(SUM(current_value), 0), COALESCE(SUM(profit_loss), 0) FROM investment_accounts " +
+                "WHERE product_id = ? AND status = 'ACTIVE'",
+                rs -> {
+                    rs.next();
+                    return new long[]{rs.getLong(1), rs.getLong(2)};
+                },
+                productId);
+    }
+}
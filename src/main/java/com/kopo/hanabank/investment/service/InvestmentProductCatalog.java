@@ -0,0 +1,57 @@
+package com.kopo.hanabank.investment.service;
+
+import com.kopo.hanabank.common.catalog.CatalogSnapshot;
+import com.kopo.hanabank.common.catalog.ProductCatalog;
+import com.kopo.hanabank.common.catalog.ProductSearchIndex;
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import com.kopo.hanabank.investment.repository.InvestmentProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 판매 중인 투자 상품 카탈로그 (상품 유형, 위험등급 인덱스)
+ * 기준가 재평가도 상품 수정 시각을 갱신하므로 다음 갱신 주기에 최신 기준가가 반영된다.
+ */
+@Component
+public class InvestmentProductCatalog extends ProductCatalog<InvestmentProduct> {
+
+    public static final String FAMILY = "investment";
+
+    private final InvestmentProductRepository investmentProductRepository;
+
+    public InvestmentProductCatalog(ApplicationEventPublisher eventPublisher,
+                                    InvestmentProductRepository investmentProductRepository) {
+        super(eventPublisher);
+        this.investmentProductRepository = investmentProductRepository;
+    }
+
+    @Override
+    public String getFamily() {
+        return FAMILY;
+    }
+
+    @Override
+    protected ModificationStamp loadFingerprint() {
+        return investmentProductRepository.findModificationStamp();
+    }
+
+    @Override
+    protected List<InvestmentProduct> loadActiveProducts() {
+        return investmentProductRepository.findByIsActiveTrue();
+    }
+
+    @Override
+    protected CatalogSnapshot<InvestmentProduct> build(long version, ModificationStamp fingerprint,
+                                                       List<InvestmentProduct> products) {
+        return CatalogSnapshot.of(version, fingerprint, products,
+                InvestmentProduct::getProductId,
+                InvestmentProduct::getProductType,
+                null,
+                InvestmentProduct::getRiskLevel,
+                List.of(new ProductSearchIndex.Field<>(InvestmentProduct::getProductName, 3.0f),
+                        new ProductSearchIndex.Field<>(InvestmentProduct::getDescription, 1.0f)));
+    }
+}
@@ -0,0 +1,172 @@
+package com.kopo.hanabank.investment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import com.kopo.hanabank.investment.dto.InvestmentProjectionResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 투자 상품 평가금액 전망 (몬테카를로)
+ * 경로 결과는 투자금 1원당 배수의 백분위수로 요약해 (상품, 기간, 경로 수, 수익률/위험 조건) 키로 캐시하고,
+ * 요청 금액은 응답 시점에 곱한다. 배수는 금액과 무관하므로 금액 구간을 나눠 캐시할 필요가 없다.
+ * 경로 수는 정해진 단계로 올려 맞춰 요청마다 다른 값으로 캐시를 채우거나 새 시뮬레이션을 강제할 수 없게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InvestmentProjectionService {
+
+    private static final int DEFAULT_PATHS = 10_000;
+    // 허용 경로 수 (오름차순), 요청 값 이상인 가장 작은 단계를 쓴다
+    private static final int[] PATH_STEPS = {1_000, DEFAULT_PATHS, 100_000};
+    private static final int MAX_HORIZON_MONTHS = 360;
+    private static final double[] PERCENTILES = {5, 25, 50, 75, 95};
+
+    private final InvestmentService investmentService;
+
+    private final Cache<ProjectionKey, Bands> bandCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public InvestmentProjectionResponse project(Long productId, Long amount, Integer horizonMonths, Integer paths) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT);
+        }
+        if (horizonMonths == null || horizonMonths <= 0 || horizonMonths > MAX_HORIZON_MONTHS) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        if (paths != null && (paths <= 0 || paths > PATH_STEPS[PATH_STEPS.length - 1])) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        int pathCount = pathStep(paths);
+
+        InvestmentProduct product = investmentService.getInvestmentProductById(productId);
+        int driftKey = toRateKey(product.getExpectedReturnRate()) - toRateKey(product.getManagementFee());
+        double volatility = MonteCarloProjection.volatility(product.getRiskLevel());
+
+        ProjectionKey key = new ProjectionKey(productId, horizonMonths, pathCount, driftKey, product.getRiskLevel());
+        Bands bands = bandCache.get(key, k -> simulate(k, driftKey / 10000.0, volatility));
+
+        List<InvestmentProjectionResponse.Band> scaled = new ArrayList<>(bands.months.length);
+        for (int c = 0; c < bands.months.length; c++) {
+            double[] quantiles = bands.quantiles[c];
+            scaled.add(InvestmentProjectionResponse.Band.builder()
+                    .month(bands.months[c])
+                    .p5(scale(amount, quantiles[0]))
+                    .p25(scale(amount, quantiles[1]))
+                    .p50(scale(amount, quantiles[2]))
+                    .p75(scale(amount, quantiles[3]))
+                    .p95(scale(amount, quantiles[4]))
+                    .mean(scale(amount, bands.means[c]))
+                    .build());
+        }
+
+        return InvestmentProjectionResponse.builder()
+                .productId(productId)
+                .productName(product.getProductName())
+                .amount(amount)
+                .horizonMonths(horizonMonths)
+                .paths(pathCount)
+                .netExpectedReturnRate(BigDecimal.valueOf(driftKey, 2))
+                .volatility(BigDecimal.valueOf(volatility * 100).setScale(2, RoundingMode.HALF_UP))
+                .lossProbability(BigDecimal.valueOf(bands.lossProbability * 100).setScale(2, RoundingMode.HALF_UP))
+                .bands(scaled)
+                .build();
+    }
+
+    private Bands simulate(ProjectionKey key, double annualDrift, double annualVolatility) {
+        long startedAt = System.currentTimeMillis();
+        int[] checkpoints = checkpoints(key.horizonMonths());
+        double[][] multipliers = new double[checkpoints.length][key.paths()];
+
+        ForkJoinPool.commonPool().invoke(MonteCarloProjection.task(
+                Objects.hash(key.productId(), key.horizonMonths(), key.paths()),
+                checkpoints, annualDrift, annualVolatility, multipliers));
+
+        double[][] quantiles = new double[checkpoints.length][];
+        double[] means = new double[checkpoints.length];
+        for (int c = 0; c < checkpoints.length; c++) {
+            double[] sorted = multipliers[c];
+            Arrays.parallelSort(sorted);
+            quantiles[c] = new double[PERCENTILES.length];
+            for (int q = 0; q < PERCENTILES.length; q++) {
+                quantiles[c][q] = MonteCarloProjection.percentile(sorted, PERCENTILES[q]);
+            }
+            means[c] = MonteCarloProjection.mean(sorted);
+        }
+
+        double[] terminal = multipliers[checkpoints.length - 1];
+        int losses = lowerBound(terminal, 1.0);
+
+        log.debug("투자 전망 시뮬레이션 완료 - 상품ID: {}, 기간: {}개월, 경로: {}건, 소요: {}ms",
+                key.productId(), key.horizonMonths(), key.paths(), System.currentTimeMillis() - startedAt);
+        return new Bands(checkpoints, quantiles, means, (double) losses / terminal.length);
+    }
+
+    private static int pathStep(Integer paths) {
+        if (paths == null) {
+            return DEFAULT_PATHS;
+        }
+        for (int step : PATH_STEPS) {
+            if (paths <= step) {
+                return step;
+            }
+        }
+        return PATH_STEPS[PATH_STEPS.length - 1];
+    }
+
+    // 1년 이하는 매월, 그 이상은 매년(마지막 달 포함) 구간을 기록한다
+    private static int[] checkpoints(int horizonMonths) {
+        int step = horizonMonths <= 12 ? 1 : 12;
+        int count = (horizonMonths + step - 1) / step;
+        int[] months = new int[count];
+        for (int i = 0; i < count; i++) {
+            months[i] = Math.min(horizonMonths, (i + 1) * step);
+        }
+        return months;
+    }
+
+    // 정렬된 배열에서 value 미만인 원소 수
+    private static int lowerBound(double[] sorted, double value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long scale(long amount, double multiplier) {
+        return (long) Math.floor(amount * multiplier);
+    }
+
+    private static int toRateKey(BigDecimal rate) {
+        return rate == null ? 0 : rate.movePointRight(2).intValue();
+    }
+
+    private record ProjectionKey(Long productId, int horizonMonths, int paths, int driftKey, Integer riskLevel) {
+    }
+
+    private record Bands(int[] months, double[][] quantiles, double[] means, double lossProbability) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.kopo.hanabank.investment.service;
+
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import com.kopo.hanabank.investment.domain.InvestmentRevaluation;
+import com.kopo.hanabank.investment.dto.InvestmentRevaluationResponse;
+import com.kopo.hanabank.investment.repository.InvestmentProductRepository;
+import com.kopo.hanabank.investment.repository.InvestmentRevaluationRepository;
+import com.kopo.hanabank.investment.repository.InvestmentValuationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 투자 상품 기준가 재평가
+ * 상품 행을 잠근 뒤 보유 계좌 전체를 단일 UPDATE로 재평가하고 상품별 이력을 남긴다.
+ * 같은 상품의 재평가는 상품 락으로 직렬화되고, 계좌 단위 투자/환매와는 계좌 행 락으로 직렬화된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class InvestmentRevaluationService {
+
+    private final InvestmentProductRepository investmentProductRepository;
+    private final InvestmentValuationRepository investmentValuationRepository;
+    private final InvestmentRevaluationRepository investmentRevaluationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public InvestmentRevaluationResponse revalue(Long productId, BigDecimal nav, InvestmentRevaluation.Source source) {
+        if (nav == null || nav.signum() <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        long startedAt = System.currentTimeMillis();
+
+        InvestmentProduct product = investmentProductRepository.findForUpdateById(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVESTMENT_PRODUCT_NOT_FOUND));
+
+        BigDecimal previousNav = product.getNav();
+        LocalDateTime revaluedAt = LocalDateTime.now();
+
+        int accountCount = investmentValuationRepository.revalue(productId, previousNav, nav, revaluedAt);
+        long[] totals = investmentValuationRepository.sumValuation(productId);
+        product.updateNav(nav, revaluedAt);
+        eventPublisher.publishEvent(new ProductRevaluedEvent(productId));
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        InvestmentRevaluation revaluation = investmentRevaluationRepository.save(InvestmentRevaluation.builder()
+                .productId(productId)
+                .previousNav(previousNav)
+                .nav(nav)
+                .accountCount(accountCount)
+                .totalValue(totals[0])
+                .totalProfitLoss(totals[1])
+                .source(source)
+                .revaluedAt(revaluedAt)
+                .elapsedMillis(elapsed)
+                .build());
+
+        log.info("투자 상품 재평가 완료 - 상품ID: {}, 기준가: {} -> {}, 계좌: {}건, 평가금액: {}, 소요: {}ms",
+                productId, previousNav, nav, accountCount, totals[0], elapsed);
+
+        return new InvestmentRevaluationResponse(revaluation);
+    }
+
+    public List<InvestmentRevaluationResponse> getRevaluationHistory(Long productId) {
+        return investmentRevaluationRepository.findTop20ByProductIdOrderByRevaluedAtDesc(productId).stream()
+                .map(InvestmentRevaluationResponse::new)
+                .toList();
+    }
+}
@@ -9,7 +9,9 @@ import com.kopo.hanabank.investment.repository.InvestmentProductRepository;
 import com.kopo.hanabank.user.domain.User;
 import com.kopo.hanabank.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -23,18 +25,29 @@ public class InvestmentService {
 
     private final InvestmentProductRepository investmentProductRepository;
     private final InvestmentAccountRepository investmentAccountRepository;
+    private final InvestmentProductCatalog investmentProductCatalog;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    // 카탈로그에서 읽는 조회는 트랜잭션(커넥션)을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<InvestmentProduct> getAllInvestmentProducts() {
-        return investmentProductRepository.findByIsActiveTrue();
+        return investmentProductCatalog.current().getProducts();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<InvestmentProduct> getInvestmentProductsByType(InvestmentProduct.ProductType productType) {
-        return investmentProductRepository.findByIsActiveTrueAndProductType(productType);
+        return investmentProductCatalog.current().getByType(productType.name());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<InvestmentProduct> getInvestmentProductsByRiskLevel(Integer riskLevel) {
-        return investmentProductRepository.findByIsActiveTrueAndRiskLevelLessThanEqual(riskLevel);
+        return investmentProductCatalog.current().getByMaxRiskLevel(riskLevel);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<InvestmentProduct> searchInvestmentProducts(String keyword) {
+        return investmentProductCatalog.current().search(keyword);
     }
 
     public InvestmentProduct getInvestmentProductById(Long id) {
@@ -44,7 +57,7 @@ public class InvestmentService {
 
     @Transactional
     public InvestmentAccount createInvestmentAccount(Long userId, Long productId, Long investmentAmount) {
-        User user = userService.getUserById(userId);
+        User user = userService.getUserReference(userId);
         InvestmentProduct product = getInvestmentProductById(productId);
 
         // 투자 금액 검증
@@ -71,12 +84,14 @@ public class InvestmentService {
                 .startDate(LocalDate.now())
                 .build();
 
-        return investmentAccountRepository.save(account);
+        InvestmentAccount saved = investmentAccountRepository.save(account);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(userId));
+        return saved;
     }
 
     public List<InvestmentAccount> getUserInvestmentAccounts(Long userId) {
-        User user = userService.getUserById(userId);
-        return investmentAccountRepository.findByUser(user);
+        userService.validateUser(userId);
+        return investmentAccountRepository.findByUserId(userId);
     }
 
     public InvestmentAccount getInvestmentAccountByNumber(String accountNumber) {
@@ -86,32 +101,38 @@ public class InvestmentService {
 
     @Transactional
     public InvestmentAccount invest(String accountNumber, Long amount) {
-        InvestmentAccount account = getInvestmentAccountByNumber(accountNumber);
+        // 기준가 재평가(상품 단위 일괄 UPDATE)와 겹쳐도 평가금액이 덮어써지지 않도록 계좌 행을 잠근다
+        InvestmentAccount account = getInvestmentAccountForUpdate(accountNumber);
         
         if (account.getStatus() != InvestmentAccount.AccountStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT);
         }
 
         account.invest(amount);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(account.getUser().getId()));
         return account;
     }
 
     @Transactional
     public InvestmentAccount redeem(String accountNumber, Long amount) {
-        InvestmentAccount account = getInvestmentAccountByNumber(accountNumber);
+        // 기준가 재평가(상품 단위 일괄 UPDATE)와 겹쳐도 평가금액이 덮어써지지 않도록 계좌 행을 잠근다
+        InvestmentAccount account = getInvestmentAccountForUpdate(accountNumber);
         
         if (account.getStatus() != InvestmentAccount.AccountStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT);
         }
 
         account.redeem(amount);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(account.getUser().getId()));
         return account;
     }
 
     @Transactional
     public InvestmentAccount updateCurrentValue(String accountNumber, Long currentValue) {
-        InvestmentAccount account = getInvestmentAccountByNumber(accountNumber);
+        // 기준가 재평가(상품 단위 일괄 UPDATE)와 겹쳐도 평가금액이 덮어써지지 않도록 계좌 행을 잠근다
+        InvestmentAccount account = getInvestmentAccountForUpdate(accountNumber);
         account.updateCurrentValue(currentValue);
+        eventPublisher.publishEvent(new PortfolioChangedEvent(account.getUser().getId()));
         return account;
     }
 
@@ -119,9 +140,15 @@ public class InvestmentService {
     public void closeInvestmentAccount(String accountNumber) {
         InvestmentAccount account = getInvestmentAccountByNumber(accountNumber);
         account.close();
+        eventPublisher.publishEvent(new PortfolioChangedEvent(account.getUser().getId()));
+    }
+
+    private InvestmentAccount getInvestmentAccountForUpdate(String accountNumber) {
+        return investmentAccountRepository.findForUpdateByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVESTMENT_ACCOUNT_NOT_FOUND));
     }
 
-    private String generateAccountNumber() {
+    static String generateAccountNumber() {
         return "INV" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
     }
 }
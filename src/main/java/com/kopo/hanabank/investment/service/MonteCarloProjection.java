@@ -0,0 +1,116 @@
+package com.kopo.hanabank.investment.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 투자 상품 몬테카를로 평가금액 시뮬레이션 (월 단위 기하 브라운 운동)
+ * 연 기대수익률에서 운용보수를 뺀 값을 추세로, 위험등급별 변동성을 확산 계수로 사용한다.
+ * 경로별 결과는 투자금 1원당 배수로 계산하므로 금액과 무관하게 재사용할 수 있다.
+ */
+public final class MonteCarloProjection {
+
+    // 위험등급 1(낮음) ~ 5(높음)의 연 변동성
+    private static final double[] VOLATILITY_BY_RISK = {0.03, 0.07, 0.12, 0.18, 0.25};
+    private static final double DEFAULT_VOLATILITY = 0.12;
+    private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+    private MonteCarloProjection() {
+    }
+
+    public static double volatility(Integer riskLevel) {
+        if (riskLevel == null) {
+            return DEFAULT_VOLATILITY;
+        }
+        int level = Math.max(1, Math.min(VOLATILITY_BY_RISK.length, riskLevel));
+        return VOLATILITY_BY_RISK[level - 1];
+    }
+
+    /**
+     * 구간 [from, to) 경로를 순차 시뮬레이션
+     *
+     * @param checkpoints 결과를 기록할 경과 개월 수 (오름차순, 마지막 값이 시뮬레이션 기간)
+     * @param multipliers [checkpoint][path] 투자금 대비 평가금액 배수
+     */
+    public static void simulate(SplittableRandom random, int[] checkpoints, double annualDrift, double annualVolatility,
+                                double[][] multipliers, int from, int to) {
+        double dt = 1.0 / 12;
+        double drift = (annualDrift - 0.5 * annualVolatility * annualVolatility) * dt;
+        double diffusion = annualVolatility * Math.sqrt(dt);
+
+        for (int path = from; path < to; path++) {
+            double logValue = 0.0;
+            int month = 0;
+            for (int c = 0; c < checkpoints.length; c++) {
+                for (; month < checkpoints[c]; month++) {
+                    logValue += drift + diffusion * random.nextGaussian();
+                }
+                multipliers[c][path] = Math.exp(logValue);
+            }
+        }
+    }
+
+    /**
+     * fork/join 경로 분할 작업
+     * 작업을 나눌 때마다 난수 생성기를 split하므로 같은 시드와 경로 수에서는 스레드 스케줄링과 무관하게 같은 결과가 나온다.
+     */
+    public static RecursiveAction task(long seed, int[] checkpoints, double annualDrift, double annualVolatility,
+                                       double[][] multipliers) {
+        int paths = multipliers.length > 0 ? multipliers[0].length : 0;
+        return new PathTask(new SplittableRandom(seed), checkpoints, annualDrift, annualVolatility,
+                multipliers, 0, paths);
+    }
+
+    /**
+     * 정렬된 표본의 백분위수 (선형 보간)
+     */
+    public static double percentile(double[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        double position = percentile / 100.0 * (sorted.length - 1);
+        int lower = (int) Math.floor(position);
+        int upper = Math.min(sorted.length - 1, lower + 1);
+        return sorted[lower] + (sorted[upper] - sorted[lower]) * (position - lower);
+    }
+
+    public static double mean(double[] values) {
+        return Arrays.stream(values).average().orElse(0.0);
+    }
+
+    private static final class PathTask extends RecursiveAction {
+        private final SplittableRandom random;
+        private final int[] checkpoints;
+        private final double annualDrift;
+        private final double annualVolatility;
+        private final double[][] multipliers;
+        private final int from;
+        private final int to;
+
+        private PathTask(SplittableRandom random, int[] checkpoints, double annualDrift, double annualVolatility,
+                         double[][] multipliers, int from, int to) {
+            this.random = random;
+            this.checkpoints = checkpoints;
+            this.annualDrift = annualDrift;
+            this.annualVolatility = annualVolatility;
+            this.multipliers = multipliers;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                simulate(random, checkpoints, annualDrift, annualVolatility, multipliers, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            PathTask left = new PathTask(random.split(), checkpoints, annualDrift, annualVolatility,
+                    multipliers, from, mid);
+            PathTask right = new PathTask(random, checkpoints, annualDrift, annualVolatility,
+                    multipliers, mid, to);
+            invokeAll(left, right);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.kopo.hanabank.investment.service;
+
+/**
+ * 사용자 보유 투자 계좌가 바뀌었음을 알리는 이벤트 (커밋 후 포트폴리오 캐시 무효화용)
+ */
+record PortfolioChangedEvent(Long userId) {
+}
@@ -0,0 +1,162 @@
+package com.kopo.hanabank.investment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanabank.investment.domain.InvestmentAccount;
+import com.kopo.hanabank.investment.domain.InvestmentProduct;
+import com.kopo.hanabank.investment.dto.PortfolioResponse;
+import com.kopo.hanabank.investment.repository.InvestmentAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 투자 포트폴리오 집계 (수익률, 상품 유형별 비중, 가중 위험등급)
+ * 상품 단위 그룹 조회 한 번으로 계산해 사용자별로 캐시한다.
+ * 투자/환매/해지는 해당 사용자 캐시를, 기준가 재평가는 상품 버전을 올려 그 상품을 담은 캐시를 커밋 후 무효화한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class PortfolioService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final InvestmentAccountRepository investmentAccountRepository;
+
+    private final Cache<Long, CachedPortfolio> portfolioCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    // 상품별 재평가 버전, 캐시 항목은 계산 시점의 버전과 다르면 버린다
+    private final Map<Long, Long> productVersions = new ConcurrentHashMap<>();
+
+    public PortfolioResponse getPortfolio(Long userId) {
+        // 적재 중 무효화가 들어오면 적재가 끝난 뒤 제거되므로 오래된 집계가 남지 않는다
+        CachedPortfolio cached = portfolioCache.get(userId, this::compute);
+        if (!cached.isCurrent(productVersions)) {
+            portfolioCache.invalidate(userId);
+            cached = portfolioCache.get(userId, this::compute);
+        }
+        return cached.response();
+    }
+
+    @TransactionalEventListener
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        portfolioCache.invalidate(event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onProductRevalued(ProductRevaluedEvent event) {
+        productVersions.merge(event.productId(), 1L, Long::sum);
+    }
+
+    private CachedPortfolio compute(Long userId) {
+        // 조회 전에 버전을 읽어야 조회 중 재평가가 커밋되어도 다음 조회에서 다시 계산된다
+        Map<Long, Long> versionsBefore = new ConcurrentHashMap<>(productVersions);
+
+        List<InvestmentAccountRepository.ProductHolding> holdings = investmentAccountRepository
+                .aggregateHoldings(userId, InvestmentAccount.AccountStatus.ACTIVE);
+
+        Map<InvestmentProduct.ProductType, long[]> byType = new EnumMap<>(InvestmentProduct.ProductType.class);
+        long[] productIds = new long[holdings.size()];
+        long[] versions = new long[holdings.size()];
+        long accountCount = 0;
+        long totalInvestment = 0;
+        long totalValue = 0;
+        long totalProfitLoss = 0;
+        long ratedValue = 0;
+        long riskWeightedValue = 0;
+
+        for (int i = 0; i < holdings.size(); i++) {
+            InvestmentAccountRepository.ProductHolding holding = holdings.get(i);
+            productIds[i] = holding.getProductId();
+            versions[i] = versionsBefore.getOrDefault(holding.getProductId(), 0L);
+
+            long count = holding.getAccountCount();
+            long investment = nullToZero(holding.getInvestmentAmount());
+            long value = nullToZero(holding.getCurrentValue());
+            long profitLoss = nullToZero(holding.getProfitLoss());
+
+            long[] typeTotals = byType.computeIfAbsent(holding.getProductType(), type -> new long[4]);
+            typeTotals[0] += count;
+            typeTotals[1] += investment;
+            typeTotals[2] += value;
+            typeTotals[3] += profitLoss;
+
+            accountCount += count;
+            totalInvestment += investment;
+            totalValue += value;
+            totalProfitLoss += profitLoss;
+            if (holding.getRiskLevel() != null) {
+                ratedValue += value;
+                riskWeightedValue += value * holding.getRiskLevel();
+            }
+        }
+
+        List<PortfolioResponse.Allocation> allocations = new ArrayList<>(byType.size());
+        for (Map.Entry<InvestmentProduct.ProductType, long[]> entry : byType.entrySet()) {
+            long[] typeTotals = entry.getValue();
+            allocations.add(PortfolioResponse.Allocation.builder()
+                    .productType(entry.getKey().name())
+                    .productTypeName(entry.getKey().getDescription())
+                    .accountCount(typeTotals[0])
+                    .investmentAmount(typeTotals[1])
+                    .currentValue(typeTotals[2])
+                    .profitLoss(typeTotals[3])
+                    .weight(percent(typeTotals[2], totalValue))
+                    .build());
+        }
+
+        PortfolioResponse response = PortfolioResponse.builder()
+                .userId(userId)
+                .accountCount(accountCount)
+                .totalInvestment(totalInvestment)
+                .totalValue(totalValue)
+                .totalProfitLoss(totalProfitLoss)
+                .totalReturnRate(percent(totalProfitLoss, totalInvestment))
+                .weightedRiskLevel(ratedValue > 0
+                        ? BigDecimal.valueOf(riskWeightedValue).divide(BigDecimal.valueOf(ratedValue), 2, RoundingMode.HALF_UP)
+                        : null)
+                .allocations(allocations)
+                .build();
+        return new CachedPortfolio(response, productIds, versions);
+    }
+
+    private static BigDecimal percent(long numerator, long denominator) {
+        if (denominator == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(numerator).multiply(HUNDRED)
+                .divide(BigDecimal.valueOf(denominator), 2, RoundingMode.HALF_UP);
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private record CachedPortfolio(PortfolioResponse response, long[] productIds, long[] versions) {
+
+        private boolean isCurrent(Map<Long, Long> productVersions) {
+            for (int i = 0; i < productIds.length; i++) {
+                if (productVersions.getOrDefault(productIds[i], 0L) != versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.kopo.hanabank.investment.service;
+
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.investment.domain.InvestmentRevaluation;
+import com.kopo.hanabank.investment.dto.PriceFeedStatusResponse;
+import com.kopo.hanabank.investment.dto.PriceTickRequest;
+import com.kopo.hanabank.investment.dto.PriceTickResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 투자 상품 시세 수신
+ * 틱은 링 버퍼에만 쌓고, 주기마다 버퍼를 비워 상품별 최신 시세로 합친 뒤 상품 단위 재평가를 한 번씩 수행한다.
+ * 틱마다 DB에 쓰지 않으므로 수신 속도와 무관하게 재평가 횟수는 (주기당 시세가 들어온 상품 수)로 제한된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceFeedService {
+
+    private static final int NAV_SCALE = 4;
+
+    private final PriceTickBuffer priceTickBuffer;
+    private final InvestmentRevaluationService investmentRevaluationService;
+    private final ThreadPoolTaskExecutor priceFeedReplayExecutor;
+
+    @Value("${investment.price-feed.replay-file:}")
+    private String replayFile;
+
+    private final AtomicBoolean replaying = new AtomicBoolean();
+
+    // 상품별로 마지막에 반영한 틱의 시각 (flush 안에서만 접근), 이보다 오래된 틱은 늦게 도착해도 반영하지 않는다
+    private final Map<Long, Long> lastAppliedTimestamps = new HashMap<>();
+
+    private volatile LocalDateTime lastFlushAt;
+    private volatile int lastFlushTicks;
+    private volatile int lastFlushProducts;
+    private volatile int lastFlushRevaluations;
+    private volatile long totalRevaluations;
+    private volatile long staleTicks;
+
+    public PriceTickResponse accept(PriceTickRequest request) {
+        long receivedAt = System.currentTimeMillis();
+        int accepted = 0;
+        for (PriceTickRequest.Tick tick : request.getTicks()) {
+            long timestamp = tick.getTimestamp() != null ? tick.getTimestamp() : receivedAt;
+            if (priceTickBuffer.publish(tick.getProductId(), toNavUnits(tick.getNav()), timestamp)) {
+                accepted++;
+            }
+        }
+        return new PriceTickResponse(accepted, request.getTicks().size() - accepted);
+    }
+
+    /**
+     * 버퍼에 쌓인 틱을 상품별 최신 시세로 합쳐 재평가 (단일 소비자)
+     */
+    @Scheduled(fixedDelayString = "${investment.price-feed.flush-interval:1000}")
+    public synchronized void flush() {
+        Map<Long, long[]> latest = new HashMap<>();
+        int ticks = priceTickBuffer.drainTo(latest, priceTickBuffer.getCapacity());
+        if (ticks == 0) {
+            return;
+        }
+
+        int revaluations = 0;
+        for (Map.Entry<Long, long[]> entry : latest.entrySet()) {
+            Long productId = entry.getKey();
+            long navUnits = entry.getValue()[0];
+            long timestamp = entry.getValue()[1];
+            Long lastApplied = lastAppliedTimestamps.get(productId);
+            if (lastApplied != null && timestamp < lastApplied) {
+                this.staleTicks++;
+                continue;
+            }
+            try {
+                investmentRevaluationService.revalue(productId, BigDecimal.valueOf(navUnits, NAV_SCALE),
+                        InvestmentRevaluation.Source.PRICE_FEED);
+                lastAppliedTimestamps.put(productId, timestamp);
+                revaluations++;
+            } catch (Exception e) {
+                // 한 상품의 실패가 나머지 상품 재평가를 막지 않도록 격리한다
+                log.warn("시세 재평가 실패 - 상품ID: {}, 오류: {}", productId, e.getMessage());
+            }
+        }
+
+        this.lastFlushAt = LocalDateTime.now();
+        this.lastFlushTicks = ticks;
+        this.lastFlushProducts = latest.size();
+        this.lastFlushRevaluations = revaluations;
+        this.totalRevaluations += revaluations;
+        log.debug("시세 반영 완료 - 틱: {}건, 상품: {}개, 재평가: {}건", ticks, latest.size(), revaluations);
+    }
+
+    /**
+     * 설정된 시세 파일(productId,nav[,epochMillis] 형식 CSV)을 버퍼에 재생한다
+     * 버퍼가 가득 차면 버리지 않고 소비될 때까지 기다린다. 기다리는 동안 배치 스레드를 붙잡지 않도록 전용 스레드에서 실행한다.
+     */
+    public void replay() {
+        if (replayFile == null || replayFile.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        if (!replaying.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+        priceFeedReplayExecutor.execute(() -> {
+            try {
+                long count = replay(Path.of(replayFile));
+                log.info("시세 파일 재생 완료 - 파일: {}, 틱: {}건", replayFile, count);
+            } catch (Exception e) {
+                log.error("시세 파일 재생 실패 - 파일: {}, 오류: {}", replayFile, e.getMessage(), e);
+            } finally {
+                replaying.set(false);
+            }
+        });
+    }
+
+    private long replay(Path path) throws IOException {
+        long count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                long productId = Long.parseLong(fields[0].trim());
+                long navUnits = toNavUnits(new BigDecimal(fields[1].trim()));
+                long timestamp = fields.length > 2 ? Long.parseLong(fields[2].trim()) : System.currentTimeMillis();
+
+                while (!priceTickBuffer.offer(productId, navUnits, timestamp)) {
+                    LockSupport.parkNanos(1_000_000L);
+                }
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public PriceFeedStatusResponse getStatus() {
+        return PriceFeedStatusResponse.builder()
+                .bufferCapacity(priceTickBuffer.getCapacity())
+                .pendingTicks(priceTickBuffer.getPending())
+                .publishedTicks(priceTickBuffer.getPublishedCount())
+                .droppedTicks(priceTickBuffer.getDroppedCount())
+                .replaying(replaying.get())
+                .lastFlushAt(lastFlushAt)
+                .lastFlushTicks(lastFlushTicks)
+                .lastFlushProducts(lastFlushProducts)
+                .lastFlushRevaluations(lastFlushRevaluations)
+                .totalRevaluations(totalRevaluations)
+                .staleTicks(staleTicks)
+                .build();
+    }
+
+    private long toNavUnits(BigDecimal nav) {
+        return nav.setScale(NAV_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
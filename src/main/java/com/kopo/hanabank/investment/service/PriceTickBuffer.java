@@ -0,0 +1,118 @@
+package com.kopo.hanabank.investment.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시세 틱 링 버퍼 (다중 생산자 / 단일 소비자, 락 없음)
+ * 생산자는 CAS로 시퀀스를 선점해 슬롯에 쓰고 슬롯별 발행 시퀀스를 기록하며, 소비자는 발행된 슬롯까지만 읽는다.
+ * 버퍼가 가득 차면 틱을 버리고 false를 반환한다 (다음 틱이 최신 시세를 다시 전달하므로 유실을 허용한다).
+ */
+@Component
+public class PriceTickBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final long[] productIds;
+    private final long[] navUnits;
+    private final long[] timestamps;
+    // 슬롯에 기록이 끝난 시퀀스 + 1 (0이면 아직 발행되지 않음)
+    private final AtomicLongArray published;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long tail;
+
+    public PriceTickBuffer(@Value("${investment.price-feed.buffer-size:65536}") int bufferSize) {
+        this.capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1)) << 1;
+        this.mask = capacity - 1;
+        this.productIds = new long[capacity];
+        this.navUnits = new long[capacity];
+        this.timestamps = new long[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * @param navUnits 기준가 x 10^4
+     * @return 버퍼가 가득 차 버려졌으면 false
+     */
+    public boolean publish(long productId, long navUnits, long timestamp) {
+        if (offer(productId, navUnits, timestamp)) {
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 버퍼가 가득 차 있으면 유실 건수에 더하지 않고 false를 반환한다 (재시도하는 생산자용)
+     */
+    public boolean offer(long productId, long navUnits, long timestamp) {
+        long sequence;
+        do {
+            sequence = head.get();
+            if (sequence - tail >= capacity) {
+                return false;
+            }
+        } while (!head.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) (sequence & mask);
+        this.productIds[slot] = productId;
+        this.navUnits[slot] = navUnits;
+        this.timestamps[slot] = timestamp;
+        published.set(slot, sequence + 1);
+        return true;
+    }
+
+    /**
+     * 발행된 틱을 최대 limit건 꺼내 상품별 최신 시세(타임스탬프가 가장 늦은 틱)로 합친다 (소비자 스레드 전용)
+     *
+     * @return 꺼낸 틱 수
+     */
+    public int drainTo(Map<Long, long[]> latest, int limit) {
+        long sequence = tail;
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) (sequence & mask);
+            if (published.get(slot) != sequence + 1) {
+                break;
+            }
+            long productId = productIds[slot];
+            long nav = navUnits[slot];
+            long timestamp = timestamps[slot];
+
+            long[] current = latest.get(productId);
+            if (current == null) {
+                latest.put(productId, new long[]{nav, timestamp});
+            } else if (timestamp >= current[1]) {
+                current[0] = nav;
+                current[1] = timestamp;
+            }
+            sequence++;
+            drained++;
+        }
+        // 슬롯을 다 읽은 뒤에 tail을 옮겨야 생산자가 읽기 전 슬롯을 덮어쓰지 않는다
+        this.tail = sequence;
+        return drained;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getPending() {
+        return head.get() - tail;
+    }
+
+    public long getPublishedCount() {
+        return head.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
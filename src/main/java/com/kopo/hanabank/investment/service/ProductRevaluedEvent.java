@@ -0,0 +1,7 @@
+package com.kopo.hanabank.investment.service;
+
+/**
+ * 상품 기준가 재평가 이벤트 (커밋 후 해당 상품을 보유한 포트폴리오 캐시 무효화용)
+ */
+record ProductRevaluedEvent(Long productId) {
+}
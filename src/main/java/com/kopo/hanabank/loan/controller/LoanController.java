@@ -4,6 +4,8 @@ import com.kopo.hanabank.common.dto.ApiResponse;
 import com.kopo.hanabank.loan.domain.LoanAccount;
 import com.kopo.hanabank.loan.domain.LoanProduct;
 import com.kopo.hanabank.loan.dto.LoanAccountResponse;
+import com.kopo.hanabank.loan.dto.LoanScheduleResponse;
+import com.kopo.hanabank.loan.service.LoanScheduleService;
 import com.kopo.hanabank.loan.service.LoanService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -19,6 +21,7 @@ import java.util.List;
 public class LoanController {
 
     private final LoanService loanService;
+    private final LoanScheduleService loanScheduleService;
 
 
     @Operation(summary = "대출 계좌 생성", description = "새로운 대출 계좌를 생성합니다.")
@@ -26,8 +29,11 @@ public class LoanController {
     public ApiResponse<LoanAccountResponse> createLoanAccount(@RequestParam Long userId, 
                                                     @RequestParam Long productId, 
                                                     @RequestParam Long loanAmount, 
-                                                    @RequestParam Integer periodMonths) {
-        LoanAccount account = loanService.createLoanAccount(userId, productId, loanAmount, periodMonths);
+                                                    @RequestParam Integer periodMonths,
+                                                    @RequestParam(required = false) LoanAccount.RepaymentMethod repaymentMethod,
+                                                    @RequestParam(required = false) String repaymentAccountNumber) {
+        LoanAccount account = loanService.createLoanAccount(userId, productId, loanAmount, periodMonths,
+                repaymentMethod, repaymentAccountNumber);
         return ApiResponse.success("대출 계좌가 성공적으로 생성되었습니다.", new LoanAccountResponse(account));
     }
 
@@ -48,6 +54,12 @@ public class LoanController {
         return ApiResponse.success(new LoanAccountResponse(account));
     }
 
+    @Operation(summary = "대출 상환 스케줄 조회", description = "대출 계좌의 회차별 원금/이자/잔액 스케줄을 조회합니다.")
+    @GetMapping("/accounts/{accountNumber}/schedule")
+    public ApiResponse<LoanScheduleResponse> getLoanSchedule(@PathVariable String accountNumber) {
+        return ApiResponse.success(loanScheduleService.getSchedule(accountNumber));
+    }
+
     @Operation(summary = "대출 상환", description = "대출 계좌에서 상환합니다.")
     @PostMapping("/accounts/repay")
     public ApiResponse<LoanAccountResponse> repayLoan(@RequestParam String accountNumber, 
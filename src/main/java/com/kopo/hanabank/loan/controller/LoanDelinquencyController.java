@@ -0,0 +1,31 @@
+package com.kopo.hanabank.loan.controller;
+
+import com.kopo.hanabank.common.dto.ApiResponse;
+import com.kopo.hanabank.loan.dto.LoanDelinquencySummaryResponse;
+import com.kopo.hanabank.loan.service.LoanDelinquencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "대출 연체 관리", description = "대출 연체 구간별 집계 API")
+@RestController
+@RequestMapping("/loans/delinquency")
+@RequiredArgsConstructor
+public class LoanDelinquencyController {
+
+    private final LoanDelinquencyService loanDelinquencyService;
+
+    @Operation(summary = "연체 구간별 집계 조회", description = "연체 구간(1~29/30~59/60~89/90일 이상)별 대출 수, 미납 원리금, 노출액을 조회합니다.")
+    @GetMapping("/summary")
+    public ApiResponse<LoanDelinquencySummaryResponse> getDelinquencySummary() {
+        return ApiResponse.success(loanDelinquencyService.getSummary());
+    }
+
+    @Operation(summary = "연체 집계 재구성", description = "대출 계좌의 현재 연체 구간으로 집계를 다시 구성합니다.")
+    @PostMapping("/summary/rebuild")
+    public ApiResponse<LoanDelinquencySummaryResponse> rebuildDelinquencySummary() {
+        loanDelinquencyService.rebuild();
+        return ApiResponse.success("연체 집계가 재구성되었습니다.", loanDelinquencyService.getSummary());
+    }
+}
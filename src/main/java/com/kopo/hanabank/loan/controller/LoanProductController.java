@@ -1,12 +1,17 @@
 package com.kopo.hanabank.loan.controller;
 
+import com.kopo.hanabank.common.catalog.CatalogResponseCache;
 import com.kopo.hanabank.common.dto.ApiResponse;
-import com.kopo.hanabank.loan.dto.LoanProductResponse;
+import com.kopo.hanabank.loan.dto.LoanQuoteResponse;
+import com.kopo.hanabank.loan.service.LoanProductCatalog;
 import com.kopo.hanabank.loan.service.LoanProductService;
+import com.kopo.hanabank.loan.service.LoanQuoteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -17,32 +22,45 @@ import java.util.List;
 public class LoanProductController {
 
     private final LoanProductService loanProductService;
+    private final LoanProductCatalog loanProductCatalog;
+    private final CatalogResponseCache catalogResponseCache;
+    private final LoanQuoteService loanQuoteService;
 
     @Operation(summary = "대출 상품 목록 조회", description = "모든 활성 대출 상품을 조회합니다.")
     @GetMapping("")
-    public ApiResponse<List<LoanProductResponse>> getAllLoanProducts() {
-        List<LoanProductResponse> products = loanProductService.getAllActiveLoanProducts();
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> getAllLoanProducts(WebRequest webRequest) {
+        return catalogResponseCache.respond(loanProductCatalog, "list", null, webRequest,
+                () -> ApiResponse.success(loanProductService.getAllActiveLoanProducts()));
     }
 
     @Operation(summary = "대출 상품 타입별 조회", description = "대출 상품 타입별로 조회합니다.")
     @GetMapping("/type/{productType}")
-    public ApiResponse<List<LoanProductResponse>> getLoanProductsByType(@PathVariable String productType) {
-        List<LoanProductResponse> products = loanProductService.getLoanProductsByType(productType);
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> getLoanProductsByType(@PathVariable String productType,
+                                                        WebRequest webRequest) {
+        return catalogResponseCache.respond(loanProductCatalog, "type", productType, webRequest,
+                () -> ApiResponse.success(loanProductService.getLoanProductsByType(productType)));
     }
 
     @Operation(summary = "대출 상품 조회", description = "ID로 대출 상품을 조회합니다.")
     @GetMapping("/{productId}")
-    public ApiResponse<LoanProductResponse> getLoanProduct(@PathVariable Long productId) {
-        LoanProductResponse product = loanProductService.getLoanProductById(productId);
-        return ApiResponse.success(product);
+    public ResponseEntity<byte[]> getLoanProduct(@PathVariable Long productId,
+                                                 WebRequest webRequest) {
+        return catalogResponseCache.respond(loanProductCatalog, "detail", String.valueOf(productId), webRequest,
+                () -> ApiResponse.success(loanProductService.getLoanProductById(productId)));
     }
 
-    @Operation(summary = "대출 상품 검색", description = "키워드로 대출 상품을 검색합니다.")
+    @Operation(summary = "대출 상품 검색", description = "상품명, 설명, 특징, 혜택에서 키워드로 대출 상품을 검색해 관련도순으로 조회합니다.")
     @GetMapping("/search")
-    public ApiResponse<List<LoanProductResponse>> searchLoanProducts(@RequestParam String keyword) {
-        List<LoanProductResponse> products = loanProductService.searchLoanProducts(keyword);
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> searchLoanProducts(@RequestParam String keyword,
+                                                     WebRequest webRequest) {
+        return catalogResponseCache.respondSearch(loanProductCatalog, keyword, webRequest,
+                () -> ApiResponse.success(loanProductService.searchLoanProducts(keyword)));
+    }
+
+    @Operation(summary = "대출 견적 조회", description = "대출 금액(및 연소득)으로 가입 가능한 전체 상품/기간별 월 상환액, 총 이자, 금리를 조회합니다.")
+    @GetMapping("/quotes")
+    public ApiResponse<List<LoanQuoteResponse>> getLoanQuotes(@RequestParam Long amount,
+                                                              @RequestParam(required = false) Long annualIncome) {
+        return ApiResponse.success(loanQuoteService.getQuotes(amount, annualIncome));
     }
 }
@@ -0,0 +1,38 @@
+package com.kopo.hanabank.loan.domain;
+
+/**
+ * 연체 구간 (연체일수 기준)
+ */
+public enum DelinquencyBucket {
+    CURRENT("정상", 0),
+    DPD_1_29("1~29일", 1),
+    DPD_30_59("30~59일", 30),
+    DPD_60_89("60~89일", 60),
+    DPD_90_PLUS("90일 이상", 90);
+
+    private final String description;
+    private final int minDaysPastDue;
+
+    DelinquencyBucket(String description, int minDaysPastDue) {
+        this.description = description;
+        this.minDaysPastDue = minDaysPastDue;
+    }
+
+    public static DelinquencyBucket of(long daysPastDue) {
+        DelinquencyBucket[] buckets = values();
+        for (int i = buckets.length - 1; i > 0; i--) {
+            if (daysPastDue >= buckets[i].minDaysPastDue) {
+                return buckets[i];
+            }
+        }
+        return CURRENT;
+    }
+
+    public boolean isDelinquent() {
+        return this != CURRENT;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
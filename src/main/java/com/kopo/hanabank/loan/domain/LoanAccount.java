@@ -10,9 +10,12 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "loan_accounts")
+@Table(name = "loan_accounts",
+        indexes = @Index(name = "idx_loan_status_next_due", columnList = "status, next_due_date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class LoanAccount extends DateTimeEntity {
@@ -63,10 +66,44 @@ public class LoanAccount extends DateTimeEntity {
     @Column(name = "status", nullable = false)
     private LoanStatus status = LoanStatus.ACTIVE;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "repayment_method")
+    private RepaymentMethod repaymentMethod;
+
+    // 자동 상환(출금) 계좌, 없으면 차주의 활성 입출금 계좌에서 출금한다
+    @Column(name = "repayment_account_number")
+    private String repaymentAccountNumber;
+
+    // 청구가 끝난 마지막 회차
+    @Column(name = "last_collected_installment", nullable = false)
+    private Integer lastCollectedInstallment = 0;
+
+    @Column(name = "next_due_date")
+    private LocalDate nextDueDate;
+
+    @Column(name = "last_collection_date")
+    private LocalDate lastCollectionDate;
+
+    @Column(name = "overdue_principal", nullable = false)
+    private Long overduePrincipal = 0L;
+
+    @Column(name = "overdue_interest", nullable = false)
+    private Long overdueInterest = 0L;
+
+    // 미납이 처음 발생한 약정일 (미납금 완납 시 초기화)
+    @Column(name = "overdue_since")
+    private LocalDate overdueSince;
+
+    // 연체 집계에 마지막으로 반영된 구간
+    @Enumerated(EnumType.STRING)
+    @Column(name = "delinquency_bucket", length = 20)
+    private DelinquencyBucket delinquencyBucket;
+
     @Builder
     public LoanAccount(User user, LoanProduct product, String accountNumber, String accountName,
                       Long loanAmount, BigDecimal interestRate,
-                      LocalDate startDate, LocalDate maturityDate, Long monthlyPayment) {
+                      LocalDate startDate, LocalDate maturityDate, Long monthlyPayment,
+                      RepaymentMethod repaymentMethod, String repaymentAccountNumber) {
         this.user = user;
         this.product = product;
         this.accountNumber = accountNumber;
@@ -77,6 +114,12 @@ public class LoanAccount extends DateTimeEntity {
         this.startDate = startDate;
         this.maturityDate = maturityDate;
         this.monthlyPayment = monthlyPayment;
+        this.repaymentMethod = repaymentMethod != null ? repaymentMethod : RepaymentMethod.EQUAL_INSTALLMENT;
+        this.repaymentAccountNumber = repaymentAccountNumber;
+        this.lastCollectedInstallment = 0;
+        this.nextDueDate = startDate != null ? startDate.plusMonths(1) : null;
+        this.overduePrincipal = 0L;
+        this.overdueInterest = 0L;
         this.status = LoanStatus.ACTIVE;
     }
 
@@ -91,12 +134,119 @@ public class LoanAccount extends DateTimeEntity {
         }
     }
 
+    /**
+     * 수시 상환: 미납 이자 -> 미납 원금 -> 남은 원금 순으로 충당하고, 미납이 모두 정리되면 연체에서 벗어난다
+     */
+    public void applyRepayment(long amount) {
+        if (amount > this.remainingAmount + getOverdueInterest()) {
+            throw new IllegalArgumentException("상환금액이 잔여금액보다 큽니다.");
+        }
+        long interestPaid = Math.min(amount, getOverdueInterest());
+        long principalPaid = amount - interestPaid;
+
+        this.overdueInterest = getOverdueInterest() - interestPaid;
+        this.overduePrincipal = getOverduePrincipal() - Math.min(principalPaid, getOverduePrincipal());
+        if (principalPaid > 0) {
+            repay(principalPaid);
+        }
+        if (getOverdueAmount() == 0) {
+            clearDelinquency();
+        }
+    }
+
+    /**
+     * 회차 청구: 연체 이자 -> 이번 회차 이자 -> 연체 원금 -> 이번 회차 원금 순으로 출금 가능 금액만큼 충당한다
+     *
+     * @return 출금할 금액
+     */
+    public long collectInstallment(int installmentNo, LocalDate dueDate, long principalDue, long interestDue,
+                                   long available, LocalDate collectionDate) {
+        long collected = collect(principalDue, interestDue, available, dueDate);
+        this.lastCollectedInstallment = installmentNo;
+        this.nextDueDate = installmentNo < getTermMonths() ? this.startDate.plusMonths(installmentNo + 1L) : null;
+        this.lastCollectionDate = collectionDate;
+        return collected;
+    }
+
+    /**
+     * 미납금 재청구 (약정일이 아닌 날)
+     *
+     * @return 출금할 금액
+     */
+    public long collectArrears(long available, LocalDate collectionDate) {
+        long collected = collect(0L, 0L, available, this.overdueSince);
+        this.lastCollectionDate = collectionDate;
+        return collected;
+    }
+
+    private long collect(long principalDue, long interestDue, long available, LocalDate dueDate) {
+        long interestTotal = getOverdueInterest() + interestDue;
+        long principalTotal = Math.min(getOverduePrincipal() + principalDue, this.remainingAmount);
+        long collected = Math.max(0L, Math.min(available, interestTotal + principalTotal));
+
+        long interestPaid = Math.min(collected, interestTotal);
+        long principalPaid = collected - interestPaid;
+
+        this.overdueInterest = interestTotal - interestPaid;
+        this.overduePrincipal = principalTotal - principalPaid;
+        if (principalPaid > 0) {
+            repay(principalPaid);
+        }
+
+        if (getOverdueAmount() == 0) {
+            this.overdueSince = null;
+        } else if (this.overdueSince == null) {
+            this.overdueSince = dueDate;
+        }
+        return collected;
+    }
+
+    public long getOverdueAmount() {
+        return getOverduePrincipal() + getOverdueInterest();
+    }
+
+    // 연체 노출액: 대출 잔액 + 미납 이자
+    public long getExposureAmount() {
+        return this.remainingAmount + getOverdueInterest();
+    }
+
+    public long getDaysPastDue(LocalDate date) {
+        if (this.overdueSince == null || getOverdueAmount() == 0) {
+            return 0L;
+        }
+        return Math.max(0L, ChronoUnit.DAYS.between(this.overdueSince, date));
+    }
+
+    /**
+     * 기준일의 연체일수로 연체 구간을 갱신한다
+     */
+    public DelinquencyBucket updateDelinquency(LocalDate date) {
+        // 약정일 당일 미납도 연체로 본다
+        this.delinquencyBucket = getOverdueAmount() == 0
+                ? DelinquencyBucket.CURRENT
+                : DelinquencyBucket.of(Math.max(1L, getDaysPastDue(date)));
+        return this.delinquencyBucket;
+    }
+
+    public DelinquencyBucket getDelinquencyBucket() {
+        return this.delinquencyBucket != null ? this.delinquencyBucket : DelinquencyBucket.CURRENT;
+    }
+
+    // 정지 계좌는 회차 청구 대상이 아니어서 연체일수가 갱신되지 않으므로 연체 집계에서 제외한다 (미납금은 유지)
     public void suspend() {
         this.status = LoanStatus.SUSPENDED;
+        this.delinquencyBucket = DelinquencyBucket.CURRENT;
     }
 
     public void close() {
         this.status = LoanStatus.CLOSED;
+        // 해지 계좌는 연체 집계에서 제외된다
+        this.delinquencyBucket = DelinquencyBucket.CURRENT;
+    }
+
+    private void clearDelinquency() {
+        this.overdueSince = null;
+        this.delinquencyBucket = DelinquencyBucket.CURRENT;
     }
 
 
@@ -148,6 +298,36 @@ public class LoanAccount extends DateTimeEntity {
         return this.status;
     }
 
+    // 상환방식 컬럼 추가 전 계좌는 원리금균등상환으로 개설되었다
+    public RepaymentMethod getRepaymentMethod() {
+        return this.repaymentMethod != null ? this.repaymentMethod : RepaymentMethod.EQUAL_INSTALLMENT;
+    }
+
+    // 컬럼 추가 전 계좌는 기본값으로 본다
+    public int getLastCollectedInstallment() {
+        return this.lastCollectedInstallment != null ? this.lastCollectedInstallment : 0;
+    }
+
+    public LocalDate getNextDueDate() {
+        if (this.nextDueDate == null && getLastCollectedInstallment() == 0) {
+            return this.startDate.plusMonths(1);
+        }
+        return this.nextDueDate;
+    }
+
+    public long getOverduePrincipal() {
+        return this.overduePrincipal != null ? this.overduePrincipal : 0L;
+    }
+
+    public long getOverdueInterest() {
+        return this.overdueInterest != null ? this.overdueInterest : 0L;
+    }
+
+    // 만기일은 개설일 + N개월(말일 보정)이므로 일자를 무시하고 연월 차이로 센다 (3/31 -> 2/28도 11개월)
+    public int getTermMonths() {
+        return (int) ChronoUnit.MONTHS.between(YearMonth.from(this.startDate), YearMonth.from(this.maturityDate));
+    }
+
     public enum LoanStatus {
         PENDING("심사중"),
         APPROVED("승인"),
@@ -166,6 +346,22 @@ public class LoanAccount extends DateTimeEntity {
             return description;
         }
     }
+
+    public enum RepaymentMethod {
+        EQUAL_INSTALLMENT("원리금균등상환"),
+        EQUAL_PRINCIPAL("원금균등상환"),
+        BULLET("만기일시상환");
+
+        private final String description;
+
+        RepaymentMethod(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
 }
 
 
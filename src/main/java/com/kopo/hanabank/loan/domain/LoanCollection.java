@@ -0,0 +1,87 @@
+package com.kopo.hanabank.loan.domain;
+
+import com.kopo.hanabank.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 대출 회차 청구 내역 (미납 발생 시 연체 관리 기준이 된다)
+ */
+@Entity
+@Table(name = "loan_collections",
+        uniqueConstraints = @UniqueConstraint(name = "uk_loan_collection_installment_date",
+                columnNames = {"loan_account_id", "installment_no", "collection_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoanCollection extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loan_account_id", nullable = false)
+    private LoanAccount loanAccount;
+
+    @Column(name = "installment_no", nullable = false)
+    private Integer installmentNo;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @Column(name = "collection_date", nullable = false)
+    private LocalDate collectionDate;
+
+    @Column(name = "withdrawal_account_number")
+    private String withdrawalAccountNumber;
+
+    // 청구 금액 (이번 회차 + 기존 미납금)
+    @Column(name = "billed_amount", nullable = false)
+    private Long billedAmount;
+
+    @Column(name = "collected_amount", nullable = false)
+    private Long collectedAmount;
+
+    @Column(name = "shortfall_amount", nullable = false)
+    private Long shortfallAmount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CollectionStatus status;
+
+    @Builder
+    public LoanCollection(LoanAccount loanAccount, Integer installmentNo, LocalDate dueDate, LocalDate collectionDate,
+                          String withdrawalAccountNumber, Long billedAmount, Long collectedAmount, Long shortfallAmount) {
+        this.loanAccount = loanAccount;
+        this.installmentNo = installmentNo;
+        this.dueDate = dueDate;
+        this.collectionDate = collectionDate;
+        this.withdrawalAccountNumber = withdrawalAccountNumber;
+        this.billedAmount = billedAmount;
+        this.collectedAmount = collectedAmount;
+        this.shortfallAmount = shortfallAmount;
+        this.status = shortfallAmount == 0 ? CollectionStatus.PAID
+                : collectedAmount > 0 ? CollectionStatus.PARTIAL : CollectionStatus.UNPAID;
+    }
+
+    public enum CollectionStatus {
+        PAID("완납"),
+        PARTIAL("부분납"),
+        UNPAID("미납");
+
+        private final String description;
+
+        CollectionStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.kopo.hanabank.loan.domain;
+
+import com.kopo.hanabank.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 연체 구간별 집계 (회차 청구 시 증감분으로 갱신)
+ */
+@Entity
+@Table(name = "loan_delinquency_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoanDelinquencySummary extends DateTimeEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "bucket", length = 20)
+    private DelinquencyBucket bucket;
+
+    @Column(name = "loan_count", nullable = false)
+    private Long loanCount;
+
+    // 미납 원리금 합계
+    @Column(name = "overdue_amount", nullable = false)
+    private Long overdueAmount;
+
+    // 대출 잔액 + 미납 이자 합계
+    @Column(name = "exposure_amount", nullable = false)
+    private Long exposureAmount;
+
+    public LoanDelinquencySummary(DelinquencyBucket bucket, Long loanCount, Long overdueAmount, Long exposureAmount) {
+        this.bucket = bucket;
+        this.loanCount = loanCount;
+        this.overdueAmount = overdueAmount;
+        this.exposureAmount = exposureAmount;
+    }
+}
@@ -25,6 +25,9 @@ public class LoanAccountResponse {
     private LocalDate startDate;
     private LocalDate maturityDate;
     private String status;
+    private Long overdueAmount;
+    private Long daysPastDue;
+    private String delinquencyBucket;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -45,6 +48,9 @@ public class LoanAccountResponse {
         this.startDate = account.getStartDate();
         this.maturityDate = account.getMaturityDate();
         this.status = account.getStatus().getDescription();
+        this.overdueAmount = account.getOverdueAmount();
+        this.daysPastDue = account.getDaysPastDue(LocalDate.now());
+        this.delinquencyBucket = account.getDelinquencyBucket().getDescription();
         this.createdAt = account.getCreatedAt();
         this.updatedAt = account.getModifiedAt();
     }
@@ -0,0 +1,36 @@
+package com.kopo.hanabank.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대출 회차 청구 배치 처리 결과 (건수는 청구 내역 기준)
+ */
+@Getter
+@AllArgsConstructor
+public class LoanCollectionResult {
+    private long paidCount;
+    private long partialCount;
+    private long unpaidCount;
+    private long failedCount;
+    private long totalCollected;
+    private long totalShortfall;
+
+    public static LoanCollectionResult empty() {
+        return new LoanCollectionResult(0, 0, 0, 0, 0, 0);
+    }
+
+    public static LoanCollectionResult failed(long count) {
+        return new LoanCollectionResult(0, 0, 0, count, 0, 0);
+    }
+
+    public LoanCollectionResult merge(LoanCollectionResult other) {
+        return new LoanCollectionResult(
+                paidCount + other.paidCount,
+                partialCount + other.partialCount,
+                unpaidCount + other.unpaidCount,
+                failedCount + other.failedCount,
+                totalCollected + other.totalCollected,
+                totalShortfall + other.totalShortfall);
+    }
+}
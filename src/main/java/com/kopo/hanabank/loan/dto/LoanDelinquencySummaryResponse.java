@@ -0,0 +1,28 @@
+package com.kopo.hanabank.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LoanDelinquencySummaryResponse {
+    private Long totalLoanCount;
+    private Long totalOverdueAmount;
+    private Long totalExposureAmount;
+    private List<Bucket> buckets;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Bucket {
+        private String bucket;
+        private String description;
+        private Long loanCount;
+        private Long overdueAmount;
+        private Long exposureAmount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.kopo.hanabank.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LoanInstallmentResponse {
+    private Integer installmentNo;
+    private LocalDate dueDate;
+    private Long payment;
+    private Long principal;
+    private Long interest;
+    private Long remainingBalance;
+}
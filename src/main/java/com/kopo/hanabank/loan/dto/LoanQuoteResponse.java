@@ -0,0 +1,24 @@
+package com.kopo.hanabank.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LoanQuoteResponse {
+    private Long productId;
+    private String productName;
+    private String loanType;
+    private Integer periodMonths;
+    private BigDecimal apr;
+    private BigDecimal effectiveAnnualRate;
+    private Long monthlyPayment;
+    private Long totalPayment;
+    private Long totalInterest;
+    // 연소득 입력 시 총부채원리금상환비율(%)
+    private BigDecimal dsr;
+}
@@ -0,0 +1,22 @@
+package com.kopo.hanabank.loan.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LoanScheduleResponse {
+    private String accountNumber;
+    private String repaymentMethod;
+    private Long loanAmount;
+    private BigDecimal interestRate;
+    private Integer termMonths;
+    private Long totalPayment;
+    private Long totalInterest;
+    private List<LoanInstallmentResponse> installments;
+}
@@ -1,10 +1,18 @@
 package com.kopo.hanabank.loan.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.loan.domain.LoanAccount;
 import com.kopo.hanabank.user.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,14 +20,40 @@ import java.util.Optional;
 public interface LoanAccountRepository extends JpaRepository<LoanAccount, Long> {
     
     List<LoanAccount> findByUser(User user);
+
+    // 응답 변환에 쓰는 사용자/상품을 함께 읽는다
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<LoanAccount> findByUserId(Long userId);
     
     List<LoanAccount> findByUserAndStatus(User user, LoanAccount.LoanStatus status);
     
     Optional<LoanAccount> findByAccountNumber(String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM LoanAccount l WHERE l.accountNumber = :accountNumber")
+    Optional<LoanAccount> findForUpdateByAccountNumber(@Param("accountNumber") String accountNumber);
     
     boolean existsByAccountNumber(String accountNumber);
-}
 
+    // 회차 청구 배치 관련 쿼리 메서드들 (약정일 도래 또는 미납금 재청구 대상)
+    @Query("SELECT l.id AS id, l.user.id AS userId FROM LoanAccount l WHERE l.status = :status AND (" +
+           "l.nextDueDate <= :date OR (l.nextDueDate IS NULL AND l.lastCollectedInstallment = 0) OR " +
+           "((l.overduePrincipal > 0 OR l.overdueInterest > 0) AND " +
+           "(l.lastCollectionDate IS NULL OR l.lastCollectionDate < :date))) ORDER BY l.id")
+    List<CollectionTarget> findCollectionTargets(@Param("status") LoanAccount.LoanStatus status,
+                                                 @Param("date") LocalDate date);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM LoanAccount l WHERE l.id IN :ids AND l.status = :status")
+    List<LoanAccount> findForUpdateByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                   @Param("status") LoanAccount.LoanStatus status);
 
+    interface CollectionTarget {
+        Long getId();
 
+        Long getUserId();
+    }
+
+    @Query("SELECT COUNT(l) AS count, MAX(l.modifiedAt) AS lastModifiedAt FROM LoanAccount l WHERE l.user.id = :userId")
+    ModificationStamp findModificationStampByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,14 @@
+package com.kopo.hanabank.loan.repository;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.domain.LoanCollection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LoanCollectionRepository extends JpaRepository<LoanCollection, Long> {
+
+    List<LoanCollection> findByLoanAccountOrderByIdDesc(LoanAccount loanAccount);
+}
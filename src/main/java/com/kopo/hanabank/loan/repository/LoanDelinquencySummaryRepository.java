@@ -0,0 +1,44 @@
+package com.kopo.hanabank.loan.repository;
+
+import com.kopo.hanabank.loan.domain.DelinquencyBucket;
+import com.kopo.hanabank.loan.domain.LoanDelinquencySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LoanDelinquencySummaryRepository extends JpaRepository<LoanDelinquencySummary, DelinquencyBucket> {
+
+    List<LoanDelinquencySummary> findAllByOrderByBucketAsc();
+
+    @Modifying
+    @Query("UPDATE LoanDelinquencySummary s SET s.loanCount = s.loanCount + :loanCount, " +
+           "s.overdueAmount = s.overdueAmount + :overdueAmount, " +
+           "s.exposureAmount = s.exposureAmount + :exposureAmount WHERE s.bucket = :bucket")
+    int applyDelta(@Param("bucket") DelinquencyBucket bucket,
+                   @Param("loanCount") long loanCount,
+                   @Param("overdueAmount") long overdueAmount,
+                   @Param("exposureAmount") long exposureAmount);
+
+    // 집계 재구성용 (연체 구간별 대출 수, 미납 원리금, 노출액)
+    @Query("SELECT l.delinquencyBucket AS bucket, COUNT(l) AS loanCount, " +
+           "SUM(l.overduePrincipal + l.overdueInterest) AS overdueAmount, " +
+           "SUM(l.remainingAmount + l.overdueInterest) AS exposureAmount " +
+           "FROM LoanAccount l WHERE l.delinquencyBucket IS NOT NULL AND l.delinquencyBucket <> :current " +
+           "GROUP BY l.delinquencyBucket")
+    List<BucketAggregate> aggregateByBucket(@Param("current") DelinquencyBucket current);
+
+    interface BucketAggregate {
+        DelinquencyBucket getBucket();
+
+        Long getLoanCount();
+
+        Long getOverdueAmount();
+
+        Long getExposureAmount();
+    }
+}
@@ -1,9 +1,9 @@
 package com.kopo.hanabank.loan.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.loan.domain.LoanProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,12 +15,10 @@ public interface LoanProductRepository extends JpaRepository<LoanProduct, Long>
     
     List<LoanProduct> findByProductTypeAndIsActiveTrue(String productType);
     
-    @Query("SELECT lp FROM LoanProduct lp WHERE lp.isActive = true AND " +
-           "(lp.productName LIKE %:keyword% OR lp.description LIKE %:keyword%)")
-    List<LoanProduct> findByKeywordAndIsActiveTrue(@Param("keyword") String keyword);
-    
     List<LoanProduct> findByIsActiveTrueAndLoanType(LoanProduct.LoanType loanType);
     
     List<LoanProduct> findByIsActiveTrueAndMinAmountLessThanEqualAndMaxAmountGreaterThanEqual(Long amount, Long amount2);
-}
 
+    @Query("SELECT COUNT(p) AS count, MAX(p.modifiedAt) AS lastModifiedAt FROM LoanProduct p")
+    ModificationStamp findModificationStamp();
+}
@@ -0,0 +1,130 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+
+/**
+ * 대출 상환 스케줄 계산
+ * 회차별 이자는 잔액 x rateKey / 120000 (원 미만 절사) 정수 연산으로 계산하고,
+ * 원리금균등 상환액만 double 거듭제곱으로 구한 뒤 원 단위 올림한다.
+ * 마지막 회차에서 남은 원금을 모두 상환해 잔액을 0으로 맞춘다.
+ */
+public final class AmortizationSchedule {
+
+    // 연 금리(%) x 100 을 월 이율로 바꾸는 분모 (100 x 100 x 12)
+    private static final long MONTHLY_RATE_DENOMINATOR = 120000L;
+
+    private final long[] payments;
+    private final long[] principals;
+    private final long[] interests;
+    private final long[] balances;
+
+    private AmortizationSchedule(int months) {
+        this.payments = new long[months];
+        this.principals = new long[months];
+        this.interests = new long[months];
+        this.balances = new long[months];
+    }
+
+    /**
+     * @param rateKey 연 금리(%) x 100
+     */
+    public static AmortizationSchedule of(LoanAccount.RepaymentMethod method, long loanAmount, int rateKey, int months) {
+        if (months <= 0 || loanAmount <= 0) {
+            return new AmortizationSchedule(0);
+        }
+
+        AmortizationSchedule schedule = new AmortizationSchedule(months);
+        long installment = method == LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT
+                ? equalInstallmentPayment(loanAmount, rateKey, months)
+                : 0L;
+        long principalPerMonth = loanAmount / months;
+        long balance = loanAmount;
+
+        for (int i = 0; i < months; i++) {
+            long interest = monthlyInterest(balance, rateKey);
+            boolean last = i == months - 1;
+
+            long principal = switch (method) {
+                case EQUAL_INSTALLMENT -> last ? balance : Math.min(balance, Math.max(0L, installment - interest));
+                case EQUAL_PRINCIPAL -> last ? balance : principalPerMonth;
+                case BULLET -> last ? balance : 0L;
+            };
+
+            balance -= principal;
+            schedule.principals[i] = principal;
+            schedule.interests[i] = interest;
+            schedule.payments[i] = principal + interest;
+            schedule.balances[i] = balance;
+        }
+        return schedule;
+    }
+
+    /**
+     * 원리금균등 월 상환액 (원 단위 올림)
+     */
+    public static long equalInstallmentPayment(long loanAmount, int rateKey, int months) {
+        if (months <= 0) {
+            return 0L;
+        }
+        if (rateKey <= 0) {
+            return (loanAmount + months - 1) / months;
+        }
+        return (long) Math.ceil(loanAmount * equalInstallmentFactor(rateKey, months));
+    }
+
+    /**
+     * 원리금균등 상환액 / 대출원금 = r(1+r)^n / ((1+r)^n - 1), rateKey > 0
+     */
+    public static double equalInstallmentFactor(int rateKey, int months) {
+        double monthlyRate = rateKey / (double) MONTHLY_RATE_DENOMINATOR;
+        double power = Math.pow(1.0 + monthlyRate, months);
+        return monthlyRate * power / (power - 1.0);
+    }
+
+    /**
+     * 회차 이자 (원 미만 절사)
+     */
+    public static long monthlyInterest(long balance, int rateKey) {
+        return balance * rateKey / MONTHLY_RATE_DENOMINATOR;
+    }
+
+    public int size() {
+        return payments.length;
+    }
+
+    public long payment(int index) {
+        return payments[index];
+    }
+
+    public long principal(int index) {
+        return principals[index];
+    }
+
+    public long interest(int index) {
+        return interests[index];
+    }
+
+    public long balance(int index) {
+        return balances[index];
+    }
+
+    public long firstPayment() {
+        return payments.length == 0 ? 0L : payments[0];
+    }
+
+    public long totalInterest() {
+        long total = 0;
+        for (long interest : interests) {
+            total += interest;
+        }
+        return total;
+    }
+
+    public long totalPayment() {
+        long total = 0;
+        for (long payment : payments) {
+            total += payment;
+        }
+        return total;
+    }
+}
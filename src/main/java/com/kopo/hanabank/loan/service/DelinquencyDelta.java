@@ -0,0 +1,44 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.DelinquencyBucket;
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.repository.LoanDelinquencySummaryRepository;
+
+/**
+ * 청크 내 연체 집계 증감분
+ * 계좌별 변경 전후 상태를 모아 두었다가 청크 트랜잭션 끝에서 구간 순서대로 한 번씩만 반영한다.
+ * 정상 구간은 매 상환마다 바뀌어 경합만 늘리므로 집계하지 않는다.
+ */
+class DelinquencyDelta {
+
+    private final long[] loanCounts = new long[DelinquencyBucket.values().length];
+    private final long[] overdueAmounts = new long[DelinquencyBucket.values().length];
+    private final long[] exposureAmounts = new long[DelinquencyBucket.values().length];
+
+    void remove(DelinquencyBucket bucket, long overdueAmount, long exposureAmount) {
+        add(bucket, -1, -overdueAmount, -exposureAmount);
+    }
+
+    void add(LoanAccount loan) {
+        add(loan.getDelinquencyBucket(), 1, loan.getOverdueAmount(), loan.getExposureAmount());
+    }
+
+    private void add(DelinquencyBucket bucket, long count, long overdueAmount, long exposureAmount) {
+        if (!bucket.isDelinquent()) {
+            return;
+        }
+        int index = bucket.ordinal();
+        loanCounts[index] += count;
+        overdueAmounts[index] += overdueAmount;
+        exposureAmounts[index] += exposureAmount;
+    }
+
+    void flush(LoanDelinquencySummaryRepository repository) {
+        for (DelinquencyBucket bucket : DelinquencyBucket.values()) {
+            int index = bucket.ordinal();
+            if (loanCounts[index] != 0 || overdueAmounts[index] != 0 || exposureAmounts[index] != 0) {
+                repository.applyDelta(bucket, loanCounts[index], overdueAmounts[index], exposureAmounts[index]);
+            }
+        }
+    }
+}
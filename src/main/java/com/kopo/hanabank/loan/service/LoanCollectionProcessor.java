@@ -0,0 +1,201 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.loan.domain.DelinquencyBucket;
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.domain.LoanCollection;
+import com.kopo.hanabank.loan.dto.LoanCollectionResult;
+import com.kopo.hanabank.loan.repository.LoanAccountRepository;
+import com.kopo.hanabank.loan.repository.LoanCollectionRepository;
+import com.kopo.hanabank.loan.repository.LoanDelinquencySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대출 회차 청구 청크 처리기 (청크 단위 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanCollectionProcessor {
+
+    private final LoanAccountRepository loanAccountRepository;
+    private final LoanCollectionRepository loanCollectionRepository;
+    private final DemandDepositAccountRepository demandDepositAccountRepository;
+    private final LoanDelinquencySummaryRepository loanDelinquencySummaryRepository;
+
+    @Transactional
+    public LoanCollectionResult processChunk(Collection<Long> loanIds, LocalDate collectionDate) {
+        // 락을 잡은 상태에서 청구 회차/청구일을 다시 확인하므로 재실행 시 같은 회차가 두 번 청구되지 않는다
+        List<LoanAccount> loans = loanAccountRepository
+                .findForUpdateByIdInAndStatus(loanIds, LoanAccount.LoanStatus.ACTIVE);
+
+        Map<String, DemandDepositAccount> linkedAccounts = lockLinkedAccounts(loans);
+        Map<Long, DemandDepositAccount> defaultAccounts = lockDefaultAccounts(loans);
+
+        List<LoanCollection> collections = new ArrayList<>();
+        DelinquencyDelta delinquencyDelta = new DelinquencyDelta();
+        long totalShortfall = 0;
+        for (LoanAccount loan : loans) {
+            DemandDepositAccount withdrawalAccount = loan.getRepaymentAccountNumber() != null
+                    ? linkedAccounts.get(loan.getRepaymentAccountNumber())
+                    : defaultAccounts.get(loan.getUser().getId());
+            if (withdrawalAccount != null && (!withdrawalAccount.getIsActive()
+                    || withdrawalAccount.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE)) {
+                withdrawalAccount = null;
+            }
+            // 타인 명의 계좌가 연결된 대출은 출금하지 않고 미납으로 남긴다
+            if (withdrawalAccount != null && !withdrawalAccount.getUser().getId().equals(loan.getUser().getId())) {
+                log.error("상환 계좌 명의 불일치로 출금 제외 - 대출계좌: {}, 상환계좌: {}",
+                        loan.getAccountNumber(), withdrawalAccount.getAccountNumber());
+                withdrawalAccount = null;
+            }
+
+            DelinquencyBucket bucketBefore = loan.getDelinquencyBucket();
+            long overdueBefore = loan.getOverdueAmount();
+            long exposureBefore = loan.getExposureAmount();
+
+            if (collect(loan, withdrawalAccount, collectionDate, collections)) {
+                totalShortfall += loan.getOverdueAmount();
+                // 연체 대출은 매일 재청구 대상이므로 청구 시점마다 연체일수 증가에 따른 구간 이동도 함께 반영된다
+                loan.updateDelinquency(collectionDate);
+                delinquencyDelta.remove(bucketBefore, overdueBefore, exposureBefore);
+                delinquencyDelta.add(loan);
+            }
+        }
+
+        loanCollectionRepository.saveAll(collections);
+        delinquencyDelta.flush(loanDelinquencySummaryRepository);
+        return summarize(collections, totalShortfall);
+    }
+
+    /**
+     * @return 청구가 발생했는지 여부
+     */
+    private boolean collect(LoanAccount loan, DemandDepositAccount withdrawalAccount, LocalDate collectionDate,
+                            List<LoanCollection> collections) {
+        if (collectionDate.equals(loan.getLastCollectionDate())) {
+            return false;
+        }
+
+        int termMonths = loan.getTermMonths();
+        AmortizationSchedule schedule = null;
+        boolean billed = false;
+
+        for (int installmentNo = loan.getLastCollectedInstallment() + 1;
+             installmentNo <= termMonths && loan.getStatus() == LoanAccount.LoanStatus.ACTIVE;
+             installmentNo++) {
+            LocalDate dueDate = loan.getStartDate().plusMonths(installmentNo);
+            if (dueDate.isAfter(collectionDate)) {
+                break;
+            }
+            if (schedule == null) {
+                schedule = AmortizationSchedule.of(loan.getRepaymentMethod(), loan.getLoanAmount(),
+                        loan.getInterestRate().movePointRight(2).intValue(), termMonths);
+            }
+
+            long collected = loan.collectInstallment(installmentNo, dueDate, schedule.principal(installmentNo - 1),
+                    schedule.interest(installmentNo - 1), available(withdrawalAccount), collectionDate);
+            collections.add(record(loan, withdrawalAccount, installmentNo, dueDate, collectionDate, collected));
+            billed = true;
+        }
+
+        // 이번에 도래한 회차가 없으면 기존 미납금만 재청구한다
+        if (!billed && loan.getOverdueAmount() > 0 && loan.getStatus() == LoanAccount.LoanStatus.ACTIVE) {
+            LocalDate overdueSince = loan.getOverdueSince();
+            long collected = loan.collectArrears(available(withdrawalAccount), collectionDate);
+            collections.add(record(loan, withdrawalAccount, loan.getLastCollectedInstallment(),
+                    overdueSince, collectionDate, collected));
+            billed = true;
+        }
+        return billed;
+    }
+
+    private LoanCollection record(LoanAccount loan, DemandDepositAccount withdrawalAccount, int installmentNo,
+                                  LocalDate dueDate, LocalDate collectionDate, long collected) {
+        if (collected > 0) {
+            withdrawalAccount.withdraw(collected);
+        }
+        // 청구 후 남은 미납금이 곧 이번 청구의 부족액이다
+        long shortfall = loan.getOverdueAmount();
+        long billedAmount = collected + shortfall;
+        if (shortfall > 0) {
+            log.warn("대출 청구 미납 발생 - 대출계좌: {}, 회차: {}, 청구: {}, 출금: {}",
+                    loan.getAccountNumber(), installmentNo, billedAmount, collected);
+        }
+
+        return LoanCollection.builder()
+                .loanAccount(loan)
+                .installmentNo(installmentNo)
+                .dueDate(dueDate)
+                .collectionDate(collectionDate)
+                .withdrawalAccountNumber(withdrawalAccount != null ? withdrawalAccount.getAccountNumber() : null)
+                .billedAmount(billedAmount)
+                .collectedAmount(collected)
+                .shortfallAmount(shortfall)
+                .build();
+    }
+
+    private long available(DemandDepositAccount account) {
+        return account != null ? Math.max(0L, account.getAvailableBalance()) : 0L;
+    }
+
+    private Map<String, DemandDepositAccount> lockLinkedAccounts(List<LoanAccount> loans) {
+        Set<String> accountNumbers = loans.stream()
+                .map(LoanAccount::getRepaymentAccountNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (accountNumbers.isEmpty()) {
+            return Map.of();
+        }
+        return demandDepositAccountRepository.findForUpdateByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(DemandDepositAccount::getAccountNumber, Function.identity()));
+    }
+
+    // 연결 계좌가 없는 대출은 차주의 가장 먼저 개설된 활성 입출금 계좌에서 출금한다
+    private Map<Long, DemandDepositAccount> lockDefaultAccounts(List<LoanAccount> loans) {
+        Set<Long> userIds = loans.stream()
+                .filter(loan -> loan.getRepaymentAccountNumber() == null)
+                .map(loan -> loan.getUser().getId())
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, DemandDepositAccount> accounts = new HashMap<>();
+        for (DemandDepositAccount account : demandDepositAccountRepository.findForUpdateActiveByUserIdIn(userIds)) {
+            accounts.putIfAbsent(account.getUser().getId(), account);
+        }
+        return accounts;
+    }
+
+    private LoanCollectionResult summarize(List<LoanCollection> collections, long totalShortfall) {
+        long paid = 0;
+        long partial = 0;
+        long unpaid = 0;
+        long totalCollected = 0;
+
+        for (LoanCollection collection : collections) {
+            switch (collection.getStatus()) {
+                case PAID -> paid++;
+                case PARTIAL -> partial++;
+                case UNPAID -> unpaid++;
+            }
+            totalCollected += collection.getCollectedAmount();
+        }
+        return new LoanCollectionResult(paid, partial, unpaid, 0, totalCollected, totalShortfall);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.dto.LoanCollectionResult;
+import com.kopo.hanabank.loan.repository.LoanAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대출 회차 청구 배치
+ * 약정일이 도래한 대출의 원리금을 입출금 계좌에서 출금해 상환하고, 부족분은 미납금으로 남겨 다음 청구 때 재청구한다.
+ * 같은 차주의 대출은 같은 파티션에서 처리해 출금 계좌 행 락 경합을 막는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanCollectionService {
+
+    private final LoanAccountRepository loanAccountRepository;
+    private final LoanCollectionProcessor loanCollectionProcessor;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+
+    @Value("${loan.collection.chunk-size:200}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${loan.collection.cron:0 0 3 * * *}")
+    public void collectInstallments() {
+        collectForDate(LocalDate.now());
+    }
+
+    public LoanCollectionResult collectForDate(LocalDate date) {
+        long startedAt = System.currentTimeMillis();
+
+        List<LoanAccountRepository.CollectionTarget> targets = loanAccountRepository
+                .findCollectionTargets(LoanAccount.LoanStatus.ACTIVE, date);
+
+        if (targets.isEmpty()) {
+            log.info("청구 대상 대출 계좌가 없습니다 - 기준일: {}", date);
+            return LoanCollectionResult.empty();
+        }
+
+        int partitionCount = Math.max(1, Math.min(batchTaskExecutor.getMaxPoolSize(), targets.size() / chunkSize + 1));
+        List<List<Long>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (LoanAccountRepository.CollectionTarget target : targets) {
+            int partition = Math.floorMod(Objects.hashCode(target.getUserId()), partitionCount);
+            partitions.get(partition).add(target.getId());
+        }
+
+        log.info("대출 회차 청구 시작 - 기준일: {}, 대상: {}건, 파티션: {}개", date, targets.size(), partitionCount);
+
+        List<CompletableFuture<LoanCollectionResult>> futures = partitions.stream()
+                .filter(partition -> !partition.isEmpty())
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> processPartition(partition, date), batchTaskExecutor))
+                .toList();
+
+        LoanCollectionResult result = futures.stream()
+                .map(CompletableFuture::join)
+                .reduce(LoanCollectionResult.empty(), LoanCollectionResult::merge);
+
+        log.info("대출 회차 청구 완료 - 기준일: {}, 완납: {}건, 부분납: {}건, 미납: {}건, 실패: {}건, 출금: {}, 미납잔액: {}, 소요: {}ms",
+                date, result.getPaidCount(), result.getPartialCount(), result.getUnpaidCount(), result.getFailedCount(),
+                result.getTotalCollected(), result.getTotalShortfall(), System.currentTimeMillis() - startedAt);
+
+        return result;
+    }
+
+    private LoanCollectionResult processPartition(List<Long> loanIds, LocalDate date) {
+        LoanCollectionResult result = LoanCollectionResult.empty();
+
+        for (int from = 0; from < loanIds.size(); from += chunkSize) {
+            List<Long> chunk = loanIds.subList(from, Math.min(from + chunkSize, loanIds.size()));
+            try {
+                result = result.merge(loanCollectionProcessor.processChunk(chunk, date));
+            } catch (Exception e) {
+                // 청크 전체가 롤백되었으므로 계좌 단위로 다시 처리해 실패 계좌만 격리한다
+                log.warn("대출 청구 청크 처리 실패, 계좌별 재처리 - 건수: {}, 오류: {}", chunk.size(), e.getMessage());
+                for (Long loanId : chunk) {
+                    result = result.merge(processSingle(loanId, date));
+                }
+            }
+        }
+        return result;
+    }
+
+    private LoanCollectionResult processSingle(Long loanId, LocalDate date) {
+        try {
+            return loanCollectionProcessor.processChunk(List.of(loanId), date);
+        } catch (Exception e) {
+            log.error("대출 청구 처리 실패 - 대출ID: {}, 오류: {}", loanId, e.getMessage(), e);
+            return LoanCollectionResult.failed(1);
+        }
+    }
+}
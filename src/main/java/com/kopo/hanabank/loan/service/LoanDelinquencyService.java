@@ -0,0 +1,96 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.DelinquencyBucket;
+import com.kopo.hanabank.loan.domain.LoanDelinquencySummary;
+import com.kopo.hanabank.loan.dto.LoanDelinquencySummaryResponse;
+import com.kopo.hanabank.loan.repository.LoanDelinquencySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연체 구간별 집계 조회
+ * 집계는 회차 청구/상환/해지 시 증감분으로 유지되며, 조회는 구간 수만큼의 행만 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class LoanDelinquencyService {
+
+    private final LoanDelinquencySummaryRepository loanDelinquencySummaryRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        // 집계 행이 없으면 (최초 기동) 대출 계좌 기준으로 한 번 구성한다
+        if (loanDelinquencySummaryRepository.count() < DelinquencyBucket.values().length - 1) {
+            rebuild();
+        }
+    }
+
+    public LoanDelinquencySummaryResponse getSummary() {
+        List<LoanDelinquencySummaryResponse.Bucket> buckets = new ArrayList<>();
+        long totalCount = 0;
+        long totalOverdue = 0;
+        long totalExposure = 0;
+
+        for (LoanDelinquencySummary summary : loanDelinquencySummaryRepository.findAllByOrderByBucketAsc()) {
+            buckets.add(LoanDelinquencySummaryResponse.Bucket.builder()
+                    .bucket(summary.getBucket().name())
+                    .description(summary.getBucket().getDescription())
+                    .loanCount(summary.getLoanCount())
+                    .overdueAmount(summary.getOverdueAmount())
+                    .exposureAmount(summary.getExposureAmount())
+                    .build());
+            totalCount += summary.getLoanCount();
+            totalOverdue += summary.getOverdueAmount();
+            totalExposure += summary.getExposureAmount();
+        }
+
+        return LoanDelinquencySummaryResponse.builder()
+                .totalLoanCount(totalCount)
+                .totalOverdueAmount(totalOverdue)
+                .totalExposureAmount(totalExposure)
+                .buckets(buckets)
+                .build();
+    }
+
+    /**
+     * 대출 계좌의 현재 연체 구간으로 집계를 다시 구성한다 (최초 구성 및 정합성 보정용, 배치 미실행 시간에 호출)
+     */
+    @Transactional
+    public void rebuild() {
+        Map<DelinquencyBucket, LoanDelinquencySummaryRepository.BucketAggregate> aggregates =
+                new EnumMap<>(DelinquencyBucket.class);
+        for (LoanDelinquencySummaryRepository.BucketAggregate aggregate
+                : loanDelinquencySummaryRepository.aggregateByBucket(DelinquencyBucket.CURRENT)) {
+            aggregates.put(aggregate.getBucket(), aggregate);
+        }
+
+        List<LoanDelinquencySummary> summaries = new ArrayList<>();
+        for (DelinquencyBucket bucket : DelinquencyBucket.values()) {
+            if (!bucket.isDelinquent()) {
+                continue;
+            }
+            LoanDelinquencySummaryRepository.BucketAggregate aggregate = aggregates.get(bucket);
+            summaries.add(aggregate == null
+                    ? new LoanDelinquencySummary(bucket, 0L, 0L, 0L)
+                    : new LoanDelinquencySummary(bucket, aggregate.getLoanCount(),
+                            aggregate.getOverdueAmount(), aggregate.getExposureAmount()));
+        }
+
+        loanDelinquencySummaryRepository.deleteAllInBatch();
+        loanDelinquencySummaryRepository.saveAll(summaries);
+        log.info("연체 집계 재구성 완료 - 연체 대출: {}건",
+                summaries.stream().mapToLong(LoanDelinquencySummary::getLoanCount).sum());
+    }
+}
@@ -0,0 +1,58 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.common.catalog.CatalogSnapshot;
+import com.kopo.hanabank.common.catalog.ProductCatalog;
+import com.kopo.hanabank.common.catalog.ProductSearchIndex;
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import com.kopo.hanabank.loan.domain.LoanProduct;
+import com.kopo.hanabank.loan.repository.LoanProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 판매 중인 대출 상품 카탈로그 (상품 유형, 대출 유형 인덱스)
+ */
+@Component
+public class LoanProductCatalog extends ProductCatalog<LoanProduct> {
+
+    public static final String FAMILY = "loan";
+
+    private final LoanProductRepository loanProductRepository;
+
+    public LoanProductCatalog(ApplicationEventPublisher eventPublisher,
+                              LoanProductRepository loanProductRepository) {
+        super(eventPublisher);
+        this.loanProductRepository = loanProductRepository;
+    }
+
+    @Override
+    public String getFamily() {
+        return FAMILY;
+    }
+
+    @Override
+    protected ModificationStamp loadFingerprint() {
+        return loanProductRepository.findModificationStamp();
+    }
+
+    @Override
+    protected List<LoanProduct> loadActiveProducts() {
+        return loanProductRepository.findByIsActiveTrue();
+    }
+
+    @Override
+    protected CatalogSnapshot<LoanProduct> build(long version, ModificationStamp fingerprint,
+                                                 List<LoanProduct> products) {
+        return CatalogSnapshot.of(version, fingerprint, products,
+                LoanProduct::getProductId,
+                LoanProduct::getProductType,
+                product -> product.getLoanType() != null ? product.getLoanType().name() : null,
+                null,
+                List.of(new ProductSearchIndex.Field<>(LoanProduct::getProductName, 3.0f),
+                        new ProductSearchIndex.Field<>(LoanProduct::getDescription, 1.0f),
+                        new ProductSearchIndex.Field<>(LoanProduct::getFeatures, 1.5f),
+                        new ProductSearchIndex.Field<>(LoanProduct::getBenefits, 1.5f)));
+    }
+}
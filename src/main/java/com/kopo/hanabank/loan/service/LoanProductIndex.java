@@ -0,0 +1,127 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.common.catalog.CatalogRefreshedEvent;
+import com.kopo.hanabank.loan.domain.LoanProduct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 활성 대출 상품의 가입 금액 구간 [minAmount, maxAmount] 인덱스
+ * minAmount 순으로 정렬한 끝점 배열과 maxAmount 누적 최댓값으로 금액을 포함하는 구간만 역순으로 훑는다.
+ * 대출 상품 카탈로그가 교체될 때 새 스냅샷을 만들어 참조를 한 번에 교체하므로 조회는 락 없이 DB 조회 없이 수행된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanProductIndex {
+
+    private final LoanProductCatalog loanProductCatalog;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        if (LoanProductCatalog.FAMILY.equals(event.family())) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        Snapshot rebuilt = Snapshot.of(loanProductCatalog.current().getProducts());
+        this.snapshot = rebuilt;
+        log.debug("대출 상품 금액 인덱스 갱신 - 상품: {}개", rebuilt.products.length);
+    }
+
+    /**
+     * 금액(및 기간)으로 가입 가능한 활성 상품 조회, minAmount 오름차순
+     *
+     * @param months null이면 기간 조건을 적용하지 않는다
+     */
+    public List<LoanProduct> find(long amount, Integer months) {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            refresh();
+            current = this.snapshot;
+        }
+        return current.find(amount, months);
+    }
+
+    private static final class Snapshot {
+        private final LoanProduct[] products;
+        private final long[] minAmounts;
+        private final long[] maxAmounts;
+        // maxAmounts[0..i]의 최댓값, 이 값이 금액보다 작으면 더 앞쪽에는 후보가 없다
+        private final long[] maxAmountPrefix;
+        private final int[] minPeriods;
+        private final int[] maxPeriods;
+
+        private Snapshot(LoanProduct[] products) {
+            int size = products.length;
+            this.products = products;
+            this.minAmounts = new long[size];
+            this.maxAmounts = new long[size];
+            this.maxAmountPrefix = new long[size];
+            this.minPeriods = new int[size];
+            this.maxPeriods = new int[size];
+
+            long runningMax = Long.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                LoanProduct product = products[i];
+                minAmounts[i] = product.getMinAmount();
+                maxAmounts[i] = product.getMaxAmount();
+                runningMax = Math.max(runningMax, maxAmounts[i]);
+                maxAmountPrefix[i] = runningMax;
+                minPeriods[i] = product.getMinPeriodMonths();
+                maxPeriods[i] = product.getMaxPeriodMonths();
+            }
+        }
+
+        private static Snapshot of(List<LoanProduct> products) {
+            LoanProduct[] sorted = products.stream()
+                    .filter(product -> product.getMinAmount() != null && product.getMaxAmount() != null
+                            && product.getMinPeriodMonths() != null && product.getMaxPeriodMonths() != null)
+                    .sorted(Comparator.comparing(LoanProduct::getMinAmount)
+                            .thenComparing(LoanProduct::getProductId))
+                    .toArray(LoanProduct[]::new);
+            return new Snapshot(sorted);
+        }
+
+        private List<LoanProduct> find(long amount, Integer months) {
+            // minAmount <= amount 인 마지막 위치
+            int last = upperBound(amount) - 1;
+
+            List<LoanProduct> result = new ArrayList<>();
+            for (int i = last; i >= 0 && maxAmountPrefix[i] >= amount; i--) {
+                if (maxAmounts[i] < amount) {
+                    continue;
+                }
+                if (months != null && (months < minPeriods[i] || months > maxPeriods[i])) {
+                    continue;
+                }
+                result.add(products[i]);
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        private int upperBound(long amount) {
+            int index = Arrays.binarySearch(minAmounts, amount);
+            if (index < 0) {
+                return -index - 1;
+            }
+            // 같은 minAmount가 여러 개일 수 있으므로 마지막 위치 다음으로 이동
+            while (index < minAmounts.length && minAmounts[index] == amount) {
+                index++;
+            }
+            return index;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.kopo.hanabank.loan.dto.LoanProductResponse;
 import com.kopo.hanabank.loan.repository.LoanProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,29 +17,37 @@ import java.util.stream.Collectors;
 public class LoanProductService {
 
     private final LoanProductRepository loanProductRepository;
+    private final LoanProductCatalog loanProductCatalog;
 
+    // 카탈로그에서 읽는 조회는 트랜잭션(커넥션)을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LoanProductResponse> getAllActiveLoanProducts() {
-        List<LoanProduct> products = loanProductRepository.findByIsActiveTrue();
+        List<LoanProduct> products = loanProductCatalog.current().getProducts();
         return products.stream()
                 .map(LoanProductResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LoanProductResponse> getLoanProductsByType(String productType) {
-        List<LoanProduct> products = loanProductRepository.findByProductTypeAndIsActiveTrue(productType);
+        List<LoanProduct> products = loanProductCatalog.current().getByType(productType);
         return products.stream()
                 .map(LoanProductResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public LoanProductResponse getLoanProductById(Long productId) {
-        LoanProduct product = loanProductRepository.findById(productId)
+        // 판매 중지 상품은 카탈로그에 없으므로 DB에서 조회한다
+        LoanProduct product = loanProductCatalog.current().findById(productId)
+                .or(() -> loanProductRepository.findById(productId))
                 .orElseThrow(() -> new RuntimeException("대출 상품을 찾을 수 없습니다."));
         return new LoanProductResponse(product);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LoanProductResponse> searchLoanProducts(String keyword) {
-        List<LoanProduct> products = loanProductRepository.findByKeywordAndIsActiveTrue(keyword);
+        List<LoanProduct> products = loanProductCatalog.current().search(keyword);
         return products.stream()
                 .map(LoanProductResponse::new)
                 .collect(Collectors.toList());
@@ -0,0 +1,123 @@
+package com.kopo.hanabank.loan.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.domain.LoanProduct;
+import com.kopo.hanabank.loan.dto.LoanQuoteResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 대출 견적 매트릭스 (원리금균등상환 기준)
+ * 금액 조건을 만족하는 활성 상품의 최소~최대 기간 전체를 상품 단위로 병렬 계산한다.
+ * 상환액과 총액은 상환 스케줄(AmortizationSchedule)에서 그대로 가져와 스케줄 조회 결과와 항상 일치시킨다.
+ * 회차 이자를 원 단위로 절사하므로 총액은 금액에 비례하지 않아 (금액, 금리, 기간) 단위로 메모이즈하고,
+ * 금액과 무관한 실효금리는 금리 단위로 메모이즈한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanQuoteService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final LoanService loanService;
+
+    private final Cache<QuoteKey, QuoteTotals> totalsCache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .build();
+
+    private final Cache<Integer, BigDecimal> effectiveRateCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public List<LoanQuoteResponse> getQuotes(Long amount, Long annualIncome) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_LOAN_AMOUNT);
+        }
+
+        List<LoanProduct> products = loanService.getLoanProductsByAmount(amount);
+
+        List<LoanQuoteResponse> quotes = products.parallelStream()
+                .flatMap(product -> quoteProduct(product, amount, annualIncome).stream())
+                .sorted(Comparator.comparing(LoanQuoteResponse::getProductId)
+                        .thenComparing(LoanQuoteResponse::getPeriodMonths))
+                .toList();
+
+        log.debug("대출 견적 계산 완료 - 금액: {}, 상품: {}개, 견적: {}건", amount, products.size(), quotes.size());
+        return quotes;
+    }
+
+    private List<LoanQuoteResponse> quoteProduct(LoanProduct product, long amount, Long annualIncome) {
+        int minMonths = product.getMinPeriodMonths();
+        int maxMonths = product.getMaxPeriodMonths();
+        BigDecimal rate = product.getInterestRate();
+        int rateKey = rate.movePointRight(2).intValue();
+
+        BigDecimal effectiveAnnualRate = effectiveAnnualRate(rateKey);
+
+        List<LoanQuoteResponse> quotes = new ArrayList<>(Math.max(0, maxMonths - minMonths + 1));
+        for (int months = minMonths; months <= maxMonths; months++) {
+            if (months <= 0) {
+                continue;
+            }
+            QuoteTotals totals = totals(amount, rateKey, months);
+            long monthlyPayment = totals.monthlyPayment();
+
+            quotes.add(LoanQuoteResponse.builder()
+                    .productId(product.getProductId())
+                    .productName(product.getProductName())
+                    .loanType(product.getLoanType() != null ? product.getLoanType().getDescription() : null)
+                    .periodMonths(months)
+                    .apr(rate)
+                    .effectiveAnnualRate(effectiveAnnualRate)
+                    .monthlyPayment(monthlyPayment)
+                    .totalPayment(totals.totalPayment())
+                    .totalInterest(totals.totalInterest())
+                    .dsr(dsr(monthlyPayment, annualIncome))
+                    .build());
+        }
+        return quotes;
+    }
+
+    // 마지막 회차 잔액 정리분까지 반영하려면 총액은 스케줄 합계여야 한다
+    private QuoteTotals totals(long amount, int rateKey, int months) {
+        return totalsCache.get(new QuoteKey(amount, rateKey, months), key -> {
+            AmortizationSchedule schedule = AmortizationSchedule.of(
+                    LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT, amount, rateKey, months);
+            return new QuoteTotals(schedule.firstPayment(), schedule.totalPayment(), schedule.totalInterest());
+        });
+    }
+
+    // 수수료가 없으므로 APR은 약정금리와 같고, 실효금리는 월복리 환산 연이율
+    private BigDecimal effectiveAnnualRate(int rateKey) {
+        return effectiveRateCache.get(rateKey, key -> {
+            double effective = Math.pow(1.0 + key / 120000.0, 12) - 1.0;
+            return BigDecimal.valueOf(effective * 100).setScale(2, RoundingMode.HALF_UP);
+        });
+    }
+
+    private BigDecimal dsr(long monthlyPayment, Long annualIncome) {
+        if (annualIncome == null || annualIncome <= 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(monthlyPayment * 12).multiply(HUNDRED)
+                .divide(BigDecimal.valueOf(annualIncome), 2, RoundingMode.HALF_UP);
+    }
+
+    private record QuoteKey(long amount, int rateKey, int months) {
+    }
+
+    private record QuoteTotals(long monthlyPayment, long totalPayment, long totalInterest) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.kopo.hanabank.loan.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.dto.LoanInstallmentResponse;
+import com.kopo.hanabank.loan.dto.LoanScheduleResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대출 계좌 상환 스케줄 조회
+ * 약정 스케줄은 대출금액/금리/기간/상환방식으로만 결정되므로 계좌번호 단위로 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LoanScheduleService {
+
+    private final LoanService loanService;
+
+    private final Cache<String, LoanScheduleResponse> scheduleCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public LoanScheduleResponse getSchedule(String accountNumber) {
+        LoanScheduleResponse cached = scheduleCache.getIfPresent(accountNumber);
+        if (cached != null) {
+            return cached;
+        }
+
+        LoanScheduleResponse schedule = buildSchedule(loanService.getLoanAccountByNumber(accountNumber));
+        scheduleCache.put(accountNumber, schedule);
+        return schedule;
+    }
+
+    private LoanScheduleResponse buildSchedule(LoanAccount account) {
+        int termMonths = account.getTermMonths();
+        AmortizationSchedule schedule = AmortizationSchedule.of(account.getRepaymentMethod(),
+                account.getLoanAmount(), account.getInterestRate().movePointRight(2).intValue(), termMonths);
+
+        LocalDate startDate = account.getStartDate();
+        List<LoanInstallmentResponse> installments = new ArrayList<>(schedule.size());
+        for (int i = 0; i < schedule.size(); i++) {
+            installments.add(LoanInstallmentResponse.builder()
+                    .installmentNo(i + 1)
+                    .dueDate(startDate.plusMonths(i + 1))
+                    .payment(schedule.payment(i))
+                    .principal(schedule.principal(i))
+                    .interest(schedule.interest(i))
+                    .remainingBalance(schedule.balance(i))
+                    .build());
+        }
+
+        return LoanScheduleResponse.builder()
+                .accountNumber(account.getAccountNumber())
+                .repaymentMethod(account.getRepaymentMethod().getDescription())
+                .loanAmount(account.getLoanAmount())
+                .interestRate(account.getInterestRate())
+                .termMonths(termMonths)
+                .totalPayment(schedule.totalPayment())
+                .totalInterest(schedule.totalInterest())
+                .installments(List.copyOf(installments))
+                .build();
+    }
+}
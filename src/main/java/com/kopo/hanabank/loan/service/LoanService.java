@@ -2,17 +2,20 @@ package com.kopo.hanabank.loan.service;
 
 import com.kopo.hanabank.common.exception.BusinessException;
 import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
 import com.kopo.hanabank.loan.domain.LoanAccount;
 import com.kopo.hanabank.loan.domain.LoanProduct;
 import com.kopo.hanabank.loan.repository.LoanAccountRepository;
+import com.kopo.hanabank.loan.repository.LoanDelinquencySummaryRepository;
 import com.kopo.hanabank.loan.repository.LoanProductRepository;
 import com.kopo.hanabank.user.domain.User;
 import com.kopo.hanabank.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -24,18 +27,31 @@ public class LoanService {
 
     private final LoanProductRepository loanProductRepository;
     private final LoanAccountRepository loanAccountRepository;
+    private final LoanProductIndex loanProductIndex;
+    private final LoanProductCatalog loanProductCatalog;
+    private final LoanDelinquencySummaryRepository loanDelinquencySummaryRepository;
     private final UserService userService;
+    private final DemandDepositAccountRepository demandDepositAccountRepository;
 
+    // 카탈로그에서 읽는 조회는 트랜잭션(커넥션)을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LoanProduct> getAllLoanProducts() {
-        return loanProductRepository.findByIsActiveTrue();
+        return loanProductCatalog.current().getProducts();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LoanProduct> getLoanProductsByType(LoanProduct.LoanType loanType) {
-        return loanProductRepository.findByIsActiveTrueAndLoanType(loanType);
+        return loanProductCatalog.current().getByCategory(loanType.name());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<LoanProduct> getLoanProductsByAmount(Long amount) {
-        return loanProductRepository.findByIsActiveTrueAndMinAmountLessThanEqualAndMaxAmountGreaterThanEqual(amount, amount);
+        return loanProductIndex.find(amount, null);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<LoanProduct> getLoanProductsByAmountAndPeriod(Long amount, Integer periodMonths) {
+        return loanProductIndex.find(amount, periodMonths);
     }
 
     public LoanProduct getLoanProductById(Long id) {
@@ -46,7 +62,15 @@ public class LoanService {
     @Transactional
     public LoanAccount createLoanAccount(Long userId, Long productId, Long loanAmount, 
                                        Integer periodMonths) {
-        User user = userService.getUserById(userId);
+        return createLoanAccount(userId, productId, loanAmount, periodMonths,
+                LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT, null);
+    }
+
+    @Transactional
+    public LoanAccount createLoanAccount(Long userId, Long productId, Long loanAmount,
+                                       Integer periodMonths, LoanAccount.RepaymentMethod repaymentMethod,
+                                       String repaymentAccountNumber) {
+        User user = userService.getUserReference(userId);
         LoanProduct product = getLoanProductById(productId);
 
         // 대출 금액 검증
@@ -59,6 +83,15 @@ public class LoanService {
             throw new BusinessException(ErrorCode.INVALID_LOAN_AMOUNT);
         }
 
+        // 자동 상환 계좌 검증 (차주 본인 명의 계좌만 허용)
+        if (repaymentAccountNumber != null) {
+            DemandDepositAccount repaymentAccount = demandDepositAccountRepository.findByAccountNumber(repaymentAccountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
+            if (!repaymentAccount.getUser().getId().equals(userId)) {
+                throw new BusinessException(ErrorCode.REPAYMENT_ACCOUNT_NOT_OWNED);
+            }
+        }
+
         // 계좌번호 생성
         String accountNumber = generateAccountNumber();
 
@@ -67,11 +100,11 @@ public class LoanService {
             throw new BusinessException(ErrorCode.LOAN_APPLICATION_REJECTED);
         }
 
-        // 월 상환액 계산 (원리금균등상환)
-        BigDecimal monthlyRate = product.getInterestRate().divide(BigDecimal.valueOf(100), 6, BigDecimal.ROUND_HALF_UP)
-                .divide(BigDecimal.valueOf(12), 6, BigDecimal.ROUND_HALF_UP);
-        
-        BigDecimal monthlyPayment = calculateMonthlyPayment(loanAmount, monthlyRate, periodMonths);
+        // 월 상환액 계산 (1회차 상환액)
+        LoanAccount.RepaymentMethod method = repaymentMethod != null
+                ? repaymentMethod : LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT;
+        long monthlyPayment = AmortizationSchedule.of(method, loanAmount,
+                product.getInterestRate().movePointRight(2).intValue(), periodMonths).firstPayment();
 
         // 만기일 계산
         LocalDate startDate = LocalDate.now();
@@ -85,15 +118,17 @@ public class LoanService {
                 .interestRate(product.getInterestRate())
                 .startDate(startDate)
                 .maturityDate(maturityDate)
-                .monthlyPayment(monthlyPayment.longValue())
+                .monthlyPayment(monthlyPayment)
+                .repaymentMethod(method)
+                .repaymentAccountNumber(repaymentAccountNumber)
                 .build();
 
         return loanAccountRepository.save(account);
     }
 
     public List<LoanAccount> getUserLoanAccounts(Long userId) {
-        User user = userService.getUserById(userId);
-        return loanAccountRepository.findByUser(user);
+        userService.validateUser(userId);
+        return loanAccountRepository.findByUserId(userId);
     }
 
     public LoanAccount getLoanAccountByNumber(String accountNumber) {
@@ -103,44 +138,44 @@ public class LoanService {
 
     @Transactional
     public LoanAccount repayLoan(String accountNumber, Long amount) {
-        LoanAccount account = getLoanAccountByNumber(accountNumber);
+        LoanAccount account = loanAccountRepository.findForUpdateByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.LOAN_ACCOUNT_NOT_FOUND));
         
         if (account.getStatus() != LoanAccount.LoanStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.INVALID_LOAN_AMOUNT);
         }
 
-        account.repay(amount);
+        DelinquencyDelta delinquencyDelta = new DelinquencyDelta();
+        delinquencyDelta.remove(account.getDelinquencyBucket(), account.getOverdueAmount(), account.getExposureAmount());
+        account.applyRepayment(amount);
+        delinquencyDelta.add(account);
+        delinquencyDelta.flush(loanDelinquencySummaryRepository);
         return account;
     }
 
     @Transactional
     public void suspendLoan(String accountNumber) {
-        LoanAccount account = getLoanAccountByNumber(accountNumber);
+        LoanAccount account = loanAccountRepository.findForUpdateByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.LOAN_ACCOUNT_NOT_FOUND));
+        DelinquencyDelta delinquencyDelta = new DelinquencyDelta();
+        delinquencyDelta.remove(account.getDelinquencyBucket(), account.getOverdueAmount(), account.getExposureAmount());
         account.suspend();
+        delinquencyDelta.flush(loanDelinquencySummaryRepository);
     }
 
     @Transactional
     public void closeLoanAccount(String accountNumber) {
-        LoanAccount account = getLoanAccountByNumber(accountNumber);
+        LoanAccount account = loanAccountRepository.findForUpdateByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.LOAN_ACCOUNT_NOT_FOUND));
+        DelinquencyDelta delinquencyDelta = new DelinquencyDelta();
+        delinquencyDelta.remove(account.getDelinquencyBucket(), account.getOverdueAmount(), account.getExposureAmount());
         account.close();
+        delinquencyDelta.flush(loanDelinquencySummaryRepository);
     }
 
-    private String generateAccountNumber() {
+    static String generateAccountNumber() {
         return "LOAN" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 4).toUpperCase();
     }
-
-    private BigDecimal calculateMonthlyPayment(Long principal, BigDecimal monthlyRate, Integer months) {
-        if (monthlyRate.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.valueOf(principal).divide(BigDecimal.valueOf(months), 0, BigDecimal.ROUND_UP);
-        }
-        
-        BigDecimal rate = monthlyRate.add(BigDecimal.ONE);
-        BigDecimal power = rate.pow(months);
-        BigDecimal numerator = BigDecimal.valueOf(principal).multiply(monthlyRate).multiply(power);
-        BigDecimal denominator = power.subtract(BigDecimal.ONE);
-        
-        return numerator.divide(denominator, 0, BigDecimal.ROUND_UP);
-    }
 }
 
 
@@ -5,8 +5,11 @@ import com.kopo.hanabank.savings.domain.SavingsAccount;
 import com.kopo.hanabank.savings.domain.SavingsProduct;
 import com.kopo.hanabank.savings.dto.SavingsAccountCreateRequest;
 import com.kopo.hanabank.savings.dto.SavingsAccountResponse;
+import com.kopo.hanabank.savings.dto.SavingsSimulationRequest;
+import com.kopo.hanabank.savings.dto.SavingsSimulationResponse;
 import com.kopo.hanabank.savings.dto.SavingsTransactionRequest;
 import com.kopo.hanabank.savings.service.SavingsService;
+import com.kopo.hanabank.savings.service.SavingsSimulationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -23,6 +26,7 @@ import java.util.stream.Collectors;
 public class SavingsController {
 
     private final SavingsService savingsService;
+    private final SavingsSimulationService savingsSimulationService;
 
 
     @Operation(summary = "적금 계좌 생성", description = "새로운 적금 계좌를 생성합니다.")
@@ -68,6 +72,12 @@ public class SavingsController {
         return ApiResponse.success("출금이 성공적으로 처리되었습니다.", new SavingsAccountResponse(account));
     }
 
+    @Operation(summary = "적금 만기 시뮬레이션", description = "상품 x 기간 x 금액 x 우대금리 조합별 만기 예상 금액을 계산합니다.")
+    @PostMapping("/simulations")
+    public ApiResponse<List<SavingsSimulationResponse>> simulateSavings(@Valid @RequestBody SavingsSimulationRequest request) {
+        return ApiResponse.success(savingsSimulationService.simulate(request));
+    }
+
     @Operation(summary = "적금 계좌 해지", description = "적금 계좌를 해지합니다.")
     @DeleteMapping("/accounts/{accountNumber}")
     public ApiResponse<Void> closeSavingsAccount(@PathVariable String accountNumber) {
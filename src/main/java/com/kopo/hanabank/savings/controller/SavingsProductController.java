@@ -1,14 +1,15 @@
 package com.kopo.hanabank.savings.controller;
 
+import com.kopo.hanabank.common.catalog.CatalogResponseCache;
 import com.kopo.hanabank.common.dto.ApiResponse;
-import com.kopo.hanabank.savings.dto.SavingsProductResponse;
+import com.kopo.hanabank.savings.service.SavingsProductCatalog;
 import com.kopo.hanabank.savings.service.SavingsProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "적금 상품 관리", description = "적금 상품 관련 API")
 @RestController
@@ -17,32 +18,37 @@ import java.util.List;
 public class SavingsProductController {
 
     private final SavingsProductService savingsProductService;
+    private final SavingsProductCatalog savingsProductCatalog;
+    private final CatalogResponseCache catalogResponseCache;
 
     @Operation(summary = "적금 상품 목록 조회", description = "모든 활성 적금 상품을 조회합니다.")
     @GetMapping("")
-    public ApiResponse<List<SavingsProductResponse>> getAllSavingsProducts() {
-        List<SavingsProductResponse> products = savingsProductService.getAllActiveSavingsProducts();
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> getAllSavingsProducts(WebRequest webRequest) {
+        return catalogResponseCache.respond(savingsProductCatalog, "list", null, webRequest,
+                () -> ApiResponse.success(savingsProductService.getAllActiveSavingsProducts()));
     }
 
     @Operation(summary = "적금 상품 타입별 조회", description = "적금 상품 타입별로 조회합니다.")
     @GetMapping("/type/{productType}")
-    public ApiResponse<List<SavingsProductResponse>> getSavingsProductsByType(@PathVariable String productType) {
-        List<SavingsProductResponse> products = savingsProductService.getSavingsProductsByType(productType);
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> getSavingsProductsByType(@PathVariable String productType,
+                                                           WebRequest webRequest) {
+        return catalogResponseCache.respond(savingsProductCatalog, "type", productType, webRequest,
+                () -> ApiResponse.success(savingsProductService.getSavingsProductsByType(productType)));
     }
 
     @Operation(summary = "적금 상품 조회", description = "ID로 적금 상품을 조회합니다.")
     @GetMapping("/{productId}")
-    public ApiResponse<SavingsProductResponse> getSavingsProduct(@PathVariable Long productId) {
-        SavingsProductResponse product = savingsProductService.getSavingsProductById(productId);
-        return ApiResponse.success(product);
+    public ResponseEntity<byte[]> getSavingsProduct(@PathVariable Long productId,
+                                                    WebRequest webRequest) {
+        return catalogResponseCache.respond(savingsProductCatalog, "detail", String.valueOf(productId), webRequest,
+                () -> ApiResponse.success(savingsProductService.getSavingsProductById(productId)));
     }
 
-    @Operation(summary = "적금 상품 검색", description = "키워드로 적금 상품을 검색합니다.")
+    @Operation(summary = "적금 상품 검색", description = "상품명, 설명, 특징, 혜택에서 키워드로 적금 상품을 검색해 관련도순으로 조회합니다.")
     @GetMapping("/search")
-    public ApiResponse<List<SavingsProductResponse>> searchSavingsProducts(@RequestParam String keyword) {
-        List<SavingsProductResponse> products = savingsProductService.searchSavingsProducts(keyword);
-        return ApiResponse.success(products);
+    public ResponseEntity<byte[]> searchSavingsProducts(@RequestParam String keyword,
+                                                        WebRequest webRequest) {
+        return catalogResponseCache.respondSearch(savingsProductCatalog, keyword, webRequest,
+                () -> ApiResponse.success(savingsProductService.searchSavingsProducts(keyword)));
     }
 }
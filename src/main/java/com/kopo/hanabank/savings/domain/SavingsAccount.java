@@ -12,7 +12,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "savings_accounts")
+@Table(
+    name = "savings_accounts",
+    indexes = {
+        @Index(name = "idx_savings_status_maturity", columnList = "status, maturity_date")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SavingsAccount extends DateTimeEntity {
@@ -115,6 +120,14 @@ public class SavingsAccount extends DateTimeEntity {
         this.status = AccountStatus.CLOSED;
     }
 
+    // 만기 해지 - 지급할 원금을 반환하고 잔액을 0으로 만든다
+    public Long mature() {
+        Long principal = this.balance;
+        this.balance = 0L;
+        this.status = AccountStatus.CLOSED;
+        return principal;
+    }
+
     public Boolean getIsActive() {
         return this.isActive;
     }
@@ -151,6 +151,21 @@ public class SavingsProduct extends DateTimeEntity {
         return this.termMonths;
     }
 
+    // 거치식 예금을 제외한 상품은 매월 납입하는 적립식으로 본다
+    public boolean isInstallment() {
+        if (this.depositType == null) {
+            return true;
+        }
+        return switch (this.depositType) {
+            case REGULAR_SAVINGS, HIGH_YIELD_SAVINGS, FOREIGN_CURRENCY_DEPOSIT -> false;
+            default -> true;
+        };
+    }
+
+    public boolean isCompoundInterest() {
+        return this.interestPaymentType != null && this.interestPaymentType.contains("복리");
+    }
+
     public enum DepositType {
         REGULAR_SAVINGS("정기예금"),
         FIXED_DEPOSIT("정기적금"),
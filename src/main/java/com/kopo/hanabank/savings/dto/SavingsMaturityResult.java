@@ -0,0 +1,41 @@
+package com.kopo.hanabank.savings.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 적금 만기 배치 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class SavingsMaturityResult {
+    private long maturedCount;
+    private long skippedCount;
+    private long failedCount;
+    private long totalPrincipal;
+    private long totalInterest; // 세전 이자
+    private long totalTax;      // 원천징수 이자소득세
+
+    public static SavingsMaturityResult empty() {
+        return new SavingsMaturityResult(0, 0, 0, 0, 0, 0);
+    }
+
+    public static SavingsMaturityResult failed(long count) {
+        return new SavingsMaturityResult(0, 0, count, 0, 0, 0);
+    }
+
+    // 지급 계좌에 입금된 세후 금액
+    public long getTotalNetPayout() {
+        return totalPrincipal + totalInterest - totalTax;
+    }
+
+    public SavingsMaturityResult merge(SavingsMaturityResult other) {
+        return new SavingsMaturityResult(
+                maturedCount + other.maturedCount,
+                skippedCount + other.skippedCount,
+                failedCount + other.failedCount,
+                totalPrincipal + other.totalPrincipal,
+                totalInterest + other.totalInterest,
+                totalTax + other.totalTax);
+    }
+}
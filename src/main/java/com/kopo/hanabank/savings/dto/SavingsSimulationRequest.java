@@ -0,0 +1,42 @@
+package com.kopo.hanabank.savings.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class SavingsSimulationRequest {
+
+    // 비어 있으면 판매 중인 전체 상품
+    @Size(max = 50, message = "상품은 최대 50개까지 지정할 수 있습니다.")
+    private List<@NotNull(message = "상품 ID는 비어 있을 수 없습니다.") Long> productIds;
+
+    // 적립식은 월 납입액, 거치식은 예치 금액
+    @NotEmpty(message = "금액은 필수입니다.")
+    @Size(max = 20, message = "금액은 최대 20개까지 지정할 수 있습니다.")
+    private List<@NotNull(message = "금액은 비어 있을 수 없습니다.")
+            @Positive(message = "금액은 양수여야 합니다.")
+            @Max(value = 1_000_000_000L, message = "금액은 10억원 이하여야 합니다.") Long> amounts;
+
+    // 비어 있으면 우대금리 미적용(0)과 상품 최대 우대금리 두 가지
+    @Size(max = 10, message = "우대금리는 최대 10개까지 지정할 수 있습니다.")
+    private List<@NotNull(message = "우대금리는 비어 있을 수 없습니다.")
+            @PositiveOrZero(message = "우대금리는 0 이상이어야 합니다.")
+            @DecimalMax(value = "10.00", message = "우대금리는 10%p 이하여야 합니다.") BigDecimal> preferentialRates;
+
+    // 비어 있으면 상품 기간
+    @Size(max = 24, message = "기간은 최대 24개까지 지정할 수 있습니다.")
+    private List<@NotNull(message = "기간은 비어 있을 수 없습니다.")
+            @Positive(message = "기간은 양수여야 합니다.")
+            @Max(value = 120, message = "기간은 120개월 이하여야 합니다.") Integer> termMonths;
+}
@@ -0,0 +1,26 @@
+package com.kopo.hanabank.savings.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SavingsSimulationResponse {
+    private Long productId;
+    private String productName;
+    private Integer termMonths;
+    private Boolean installment;
+    private Long amount;
+    private BigDecimal preferentialRate;
+    private BigDecimal finalRate;
+    private Long totalPrincipal;
+    private Long interest;
+    private Long tax;
+    private Long maturityAmount;
+}
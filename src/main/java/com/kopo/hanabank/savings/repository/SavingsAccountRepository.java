@@ -1,10 +1,18 @@
 package com.kopo.hanabank.savings.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.savings.domain.SavingsAccount;
 import com.kopo.hanabank.user.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +20,10 @@ import java.util.Optional;
 public interface SavingsAccountRepository extends JpaRepository<SavingsAccount, Long> {
     
     List<SavingsAccount> findByUser(User user);
+
+    // 응답 변환에 쓰는 사용자/상품을 함께 읽는다
+    @EntityGraph(attributePaths = {"user", "product"})
+    List<SavingsAccount> findByUserId(Long userId);
     
     List<SavingsAccount> findByUserAndStatus(User user, SavingsAccount.AccountStatus status);
     
@@ -19,9 +31,39 @@ public interface SavingsAccountRepository extends JpaRepository<SavingsAccount,
     
     boolean existsByAccountNumber(String accountNumber);
     
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SavingsAccount s WHERE s.accountNumber = :accountNumber")
+    Optional<SavingsAccount> findForUpdateByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SavingsAccount s WHERE s.id = :id")
+    Optional<SavingsAccount> findForUpdateById(@Param("id") Long id);
+
     // 자동이체 관련 쿼리 메서드들
     List<SavingsAccount> findByAutoTransferEnabledTrueAndTransferDay(Integer transferDay);
+
+    @Query("SELECT s.id FROM SavingsAccount s WHERE s.autoTransferEnabled = true AND s.transferDay = :transferDay ORDER BY s.id")
+    List<Long> findAutoTransferTargetIds(@Param("transferDay") Integer transferDay);
     
     List<SavingsAccount> findByUserAndAutoTransferEnabledTrue(User user);
-    
-}
\ No newline at end of file
+
+    // 만기 배치 관련 쿼리 메서드들 (status, maturity_date 인덱스 범위 스캔)
+    @Query("SELECT s.id AS id, s.withdrawalAccountNumber AS withdrawalAccountNumber FROM SavingsAccount s " +
+           "WHERE s.status = :status AND s.maturityDate <= :maturityDate ORDER BY s.id")
+    List<MaturityTarget> findMaturityTargets(@Param("status") SavingsAccount.AccountStatus status,
+                                             @Param("maturityDate") LocalDate maturityDate);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SavingsAccount s WHERE s.id IN :ids AND s.status = :status")
+    List<SavingsAccount> findForUpdateByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                                      @Param("status") SavingsAccount.AccountStatus status);
+
+    interface MaturityTarget {
+        Long getId();
+
+        String getWithdrawalAccountNumber();
+    }
+
+    @Query("SELECT COUNT(s) AS count, MAX(s.modifiedAt) AS lastModifiedAt FROM SavingsAccount s WHERE s.user.id = :userId")
+    ModificationStamp findModificationStampByUserId(@Param("userId") Long userId);
+}
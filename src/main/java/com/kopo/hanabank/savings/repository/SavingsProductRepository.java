@@ -1,9 +1,9 @@
 package com.kopo.hanabank.savings.repository;
 
+import com.kopo.hanabank.common.domain.ModificationStamp;
 import com.kopo.hanabank.savings.domain.SavingsProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,10 +17,8 @@ public interface SavingsProductRepository extends JpaRepository<SavingsProduct,
     
     List<SavingsProduct> findByTermMonthsAndIsActiveTrue(Integer termMonths);
     
-    @Query("SELECT sp FROM SavingsProduct sp WHERE sp.isActive = true AND " +
-           "(sp.productName LIKE %:keyword% OR sp.description LIKE %:keyword%)")
-    List<SavingsProduct> findByKeywordAndIsActiveTrue(@Param("keyword") String keyword);
-    
     List<SavingsProduct> findByIsActiveTrueAndDepositType(SavingsProduct.DepositType depositType);
-}
 
+    @Query("SELECT COUNT(p) AS count, MAX(p.modifiedAt) AS lastModifiedAt FROM SavingsProduct p")
+    ModificationStamp findModificationStamp();
+}
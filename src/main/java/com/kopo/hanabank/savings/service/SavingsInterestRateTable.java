@@ -0,0 +1,127 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.savings.domain.SavingsProduct;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품별 만기 이자 배수 테이블
+ * 상품의 기간/납입방식/이자지급방식은 고정이므로 금리(0.01%p 단위)별 이자 배수를 한 번만 계산해 재사용한다.
+ */
+public class SavingsInterestRateTable {
+
+    // 이자소득세 14% + 지방소득세 1.4% (천분율, 만기 지급과 시뮬레이션이 같은 값을 쓴다)
+    public static final long INTEREST_TAX_PER_MILLE = 154L;
+
+    private static final int FACTOR_SCALE = 12;
+    private static final MathContext MC = MathContext.DECIMAL64;
+
+    private final Map<Long, ProductTerms> productTerms;
+
+    private SavingsInterestRateTable(Map<Long, ProductTerms> productTerms) {
+        this.productTerms = productTerms;
+    }
+
+    public static SavingsInterestRateTable of(Collection<SavingsProduct> products) {
+        Map<Long, ProductTerms> terms = new HashMap<>();
+        for (SavingsProduct product : products) {
+            terms.put(product.getProductId(), new ProductTerms(
+                    product.getTermMonths() != null ? product.getTermMonths() : 0,
+                    product.isInstallment(),
+                    product.isCompoundInterest()));
+        }
+        return new SavingsInterestRateTable(terms);
+    }
+
+    /**
+     * 만기 이자 계산 (원 미만 절사)
+     */
+    public long interest(Long productId, BigDecimal annualRate, long principal) {
+        if (principal <= 0) {
+            return 0L;
+        }
+        return BigDecimal.valueOf(principal)
+                .multiply(factor(productId, annualRate))
+                .setScale(0, RoundingMode.DOWN)
+                .longValue();
+    }
+
+    /**
+     * 이자소득세 원천징수액 (원 미만 절사)
+     */
+    public static long withholdingTax(long interest) {
+        return interest <= 0 ? 0L : interest * INTEREST_TAX_PER_MILLE / 1000L;
+    }
+
+    /**
+     * 원금 대비 만기 이자 배수
+     */
+    public BigDecimal factor(Long productId, BigDecimal annualRate) {
+        ProductTerms terms = productTerms.get(productId);
+        if (terms == null) {
+            throw new BusinessException(ErrorCode.SAVINGS_PRODUCT_NOT_FOUND);
+        }
+        if (annualRate == null || annualRate.signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return terms.factor(annualRate.movePointRight(2).intValue());
+    }
+
+    private static class ProductTerms {
+        private final int termMonths;
+        private final boolean installment;
+        private final boolean compound;
+        private final Map<Integer, BigDecimal> factors = new ConcurrentHashMap<>();
+
+        private ProductTerms(int termMonths, boolean installment, boolean compound) {
+            this.termMonths = termMonths;
+            this.installment = installment;
+            this.compound = compound;
+        }
+
+        private BigDecimal factor(int rateKey) {
+            return factors.computeIfAbsent(rateKey, this::computeFactor);
+        }
+
+        private BigDecimal computeFactor(int rateKey) {
+            if (termMonths <= 0) {
+                return BigDecimal.ZERO;
+            }
+
+            // rateKey는 연 금리(%) x 100 이므로 월 이율 = rateKey / 120000
+            BigDecimal monthlyRate = BigDecimal.valueOf(rateKey).divide(BigDecimal.valueOf(120000), MC);
+
+            if (!compound) {
+                // 단리: 적립식은 평균 예치기간 (n+1)/2 개월 적용
+                BigDecimal months = installment
+                        ? BigDecimal.valueOf(termMonths + 1).divide(BigDecimal.valueOf(2))
+                        : BigDecimal.valueOf(termMonths);
+                return monthlyRate.multiply(months, MC).setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+            }
+
+            BigDecimal growth = BigDecimal.ONE.add(monthlyRate);
+            if (!installment) {
+                return growth.pow(termMonths, MC).subtract(BigDecimal.ONE)
+                        .setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+            }
+
+            // 월복리 적립식: k개월 예치된 납입분들의 복리 증가분 평균
+            BigDecimal power = BigDecimal.ONE;
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int k = 1; k <= termMonths; k++) {
+                power = power.multiply(growth, MC);
+                sum = sum.add(power, MC);
+            }
+            return sum.divide(BigDecimal.valueOf(termMonths), MC).subtract(BigDecimal.ONE)
+                    .setScale(FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+    }
+}
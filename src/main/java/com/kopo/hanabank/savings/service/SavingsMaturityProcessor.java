@@ -0,0 +1,86 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.savings.domain.SavingsAccount;
+import com.kopo.hanabank.savings.dto.SavingsMaturityResult;
+import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 적금 만기 청크 처리기 (청크 단위 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavingsMaturityProcessor {
+
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final DemandDepositAccountRepository demandDepositAccountRepository;
+
+    @Transactional
+    public SavingsMaturityResult processChunk(Collection<Long> accountIds, LocalDate maturityDate,
+                                              SavingsInterestRateTable rateTable) {
+        // 락을 잡은 상태에서 ACTIVE 여부를 다시 확인하므로 재실행/중복 실행 시 이미 만기 처리된 계좌는 제외된다
+        List<SavingsAccount> accounts = savingsAccountRepository
+                .findForUpdateByIdInAndStatus(accountIds, SavingsAccount.AccountStatus.ACTIVE);
+
+        Set<String> payoutAccountNumbers = accounts.stream()
+                .map(SavingsAccount::getWithdrawalAccountNumber)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, DemandDepositAccount> payoutAccounts = payoutAccountNumbers.isEmpty()
+                ? Map.of()
+                : demandDepositAccountRepository.findForUpdateByAccountNumberIn(payoutAccountNumbers).stream()
+                        .collect(Collectors.toMap(DemandDepositAccount::getAccountNumber, Function.identity()));
+
+        long matured = 0;
+        long skipped = 0;
+        long totalPrincipal = 0;
+        long totalInterest = 0;
+        long totalTax = 0;
+
+        for (SavingsAccount account : accounts) {
+            if (account.getMaturityDate().isAfter(maturityDate)) {
+                skipped++;
+                continue;
+            }
+
+            DemandDepositAccount payoutAccount = payoutAccounts.get(account.getWithdrawalAccountNumber());
+            if (payoutAccount == null || !payoutAccount.getIsActive()
+                    || payoutAccount.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
+                log.warn("만기 지급 계좌가 없거나 비활성 상태입니다 - 적금계좌: {}, 지급계좌: {}",
+                        account.getAccountNumber(), account.getWithdrawalAccountNumber());
+                skipped++;
+                continue;
+            }
+
+            long interest = rateTable.interest(
+                    account.getProduct().getProductId(), account.getFinalRate(), account.getBalance());
+            long tax = SavingsInterestRateTable.withholdingTax(interest);
+            long principal = account.mature();
+            // 이자소득세를 원천징수한 세후 금액을 지급한다
+            payoutAccount.deposit(principal + interest - tax);
+
+            matured++;
+            totalPrincipal += principal;
+            totalInterest += interest;
+            totalTax += tax;
+        }
+
+        return new SavingsMaturityResult(matured, skipped, 0, totalPrincipal, totalInterest, totalTax);
+    }
+}
@@ -0,0 +1,114 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.savings.domain.SavingsAccount;
+import com.kopo.hanabank.savings.dto.SavingsMaturityResult;
+import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
+import com.kopo.hanabank.savings.repository.SavingsProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 적금 만기 배치
+ * 만기 도래 계좌를 지급 계좌 기준으로 파티셔닝해 병렬 처리하고, 파티션 내부는 청크 단위 트랜잭션으로 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavingsMaturityService {
+
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final SavingsProductRepository savingsProductRepository;
+    private final SavingsMaturityProcessor savingsMaturityProcessor;
+    private final ThreadPoolTaskExecutor batchTaskExecutor;
+
+    @Value("${savings.maturity.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${savings.maturity.cron:0 30 0 * * *}")
+    public void processMaturities() {
+        processMaturitiesForDate(LocalDate.now());
+    }
+
+    public SavingsMaturityResult processMaturitiesForDate(LocalDate date) {
+        long startedAt = System.currentTimeMillis();
+
+        // 만기일이 지났지만 처리되지 못한 계좌도 함께 조회된다
+        List<SavingsAccountRepository.MaturityTarget> targets = savingsAccountRepository
+                .findMaturityTargets(SavingsAccount.AccountStatus.ACTIVE, date);
+
+        if (targets.isEmpty()) {
+            log.info("만기 도래 적금 계좌가 없습니다 - 기준일: {}", date);
+            return SavingsMaturityResult.empty();
+        }
+
+        SavingsInterestRateTable rateTable = SavingsInterestRateTable.of(savingsProductRepository.findAll());
+
+        // 같은 지급 계좌로 입금되는 적금은 같은 파티션에 모아 스레드 간 행 락 경합을 막는다
+        int partitionCount = Math.max(1, Math.min(batchTaskExecutor.getMaxPoolSize(), targets.size() / chunkSize + 1));
+        List<List<Long>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (SavingsAccountRepository.MaturityTarget target : targets) {
+            int partition = Math.floorMod(Objects.hashCode(target.getWithdrawalAccountNumber()), partitionCount);
+            partitions.get(partition).add(target.getId());
+        }
+
+        log.info("적금 만기 처리 시작 - 기준일: {}, 대상: {}건, 파티션: {}개", date, targets.size(), partitionCount);
+
+        List<CompletableFuture<SavingsMaturityResult>> futures = partitions.stream()
+                .filter(partition -> !partition.isEmpty())
+                .map(partition -> CompletableFuture.supplyAsync(
+                        () -> processPartition(partition, date, rateTable), batchTaskExecutor))
+                .toList();
+
+        SavingsMaturityResult result = futures.stream()
+                .map(CompletableFuture::join)
+                .reduce(SavingsMaturityResult.empty(), SavingsMaturityResult::merge);
+
+        log.info("적금 만기 처리 완료 - 기준일: {}, 만기: {}건, 보류: {}건, 실패: {}건, 원금: {}, 이자: {}, 세금: {}, 지급: {}, 소요: {}ms",
+                date, result.getMaturedCount(), result.getSkippedCount(), result.getFailedCount(),
+                result.getTotalPrincipal(), result.getTotalInterest(), result.getTotalTax(),
+                result.getTotalNetPayout(), System.currentTimeMillis() - startedAt);
+
+        return result;
+    }
+
+    private SavingsMaturityResult processPartition(List<Long> accountIds, LocalDate date,
+                                                   SavingsInterestRateTable rateTable) {
+        SavingsMaturityResult result = SavingsMaturityResult.empty();
+
+        for (int from = 0; from < accountIds.size(); from += chunkSize) {
+            List<Long> chunk = accountIds.subList(from, Math.min(from + chunkSize, accountIds.size()));
+            try {
+                result = result.merge(savingsMaturityProcessor.processChunk(chunk, date, rateTable));
+            } catch (Exception e) {
+                // 청크 전체가 롤백되었으므로 계좌 단위로 다시 처리해 실패 계좌만 격리한다
+                log.warn("적금 만기 청크 처리 실패, 계좌별 재처리 - 건수: {}, 오류: {}", chunk.size(), e.getMessage());
+                for (Long accountId : chunk) {
+                    result = result.merge(processSingle(accountId, date, rateTable));
+                }
+            }
+        }
+        return result;
+    }
+
+    private SavingsMaturityResult processSingle(Long accountId, LocalDate date, SavingsInterestRateTable rateTable) {
+        try {
+            return savingsMaturityProcessor.processChunk(List.of(accountId), date, rateTable);
+        } catch (Exception e) {
+            log.error("적금 만기 처리 실패 - 계좌ID: {}, 오류: {}", accountId, e.getMessage(), e);
+            return SavingsMaturityResult.failed(1);
+        }
+    }
+}
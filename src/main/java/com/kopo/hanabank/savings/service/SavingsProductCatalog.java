@@ -0,0 +1,58 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.common.catalog.CatalogSnapshot;
+import com.kopo.hanabank.common.catalog.ProductCatalog;
+import com.kopo.hanabank.common.catalog.ProductSearchIndex;
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import com.kopo.hanabank.savings.domain.SavingsProduct;
+import com.kopo.hanabank.savings.repository.SavingsProductRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 판매 중인 적금 상품 카탈로그 (상품 유형, 예치 유형 인덱스)
+ */
+@Component
+public class SavingsProductCatalog extends ProductCatalog<SavingsProduct> {
+
+    public static final String FAMILY = "savings";
+
+    private final SavingsProductRepository savingsProductRepository;
+
+    public SavingsProductCatalog(ApplicationEventPublisher eventPublisher,
+                                 SavingsProductRepository savingsProductRepository) {
+        super(eventPublisher);
+        this.savingsProductRepository = savingsProductRepository;
+    }
+
+    @Override
+    public String getFamily() {
+        return FAMILY;
+    }
+
+    @Override
+    protected ModificationStamp loadFingerprint() {
+        return savingsProductRepository.findModificationStamp();
+    }
+
+    @Override
+    protected List<SavingsProduct> loadActiveProducts() {
+        return savingsProductRepository.findByIsActiveTrue();
+    }
+
+    @Override
+    protected CatalogSnapshot<SavingsProduct> build(long version, ModificationStamp fingerprint,
+                                                    List<SavingsProduct> products) {
+        return CatalogSnapshot.of(version, fingerprint, products,
+                SavingsProduct::getProductId,
+                SavingsProduct::getProductType,
+                product -> product.getDepositType() != null ? product.getDepositType().name() : null,
+                null,
+                List.of(new ProductSearchIndex.Field<>(SavingsProduct::getProductName, 3.0f),
+                        new ProductSearchIndex.Field<>(SavingsProduct::getDescription, 1.0f),
+                        new ProductSearchIndex.Field<>(SavingsProduct::getFeatures, 1.5f),
+                        new ProductSearchIndex.Field<>(SavingsProduct::getBenefits, 1.5f)));
+    }
+}
@@ -5,6 +5,7 @@ import com.kopo.hanabank.savings.dto.SavingsProductResponse;
 import com.kopo.hanabank.savings.repository.SavingsProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -16,29 +17,37 @@ import java.util.stream.Collectors;
 public class SavingsProductService {
 
     private final SavingsProductRepository savingsProductRepository;
+    private final SavingsProductCatalog savingsProductCatalog;
 
+    // 카탈로그에서 읽는 조회는 트랜잭션(커넥션)을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProductResponse> getAllActiveSavingsProducts() {
-        List<SavingsProduct> products = savingsProductRepository.findByIsActiveTrue();
+        List<SavingsProduct> products = savingsProductCatalog.current().getProducts();
         return products.stream()
                 .map(SavingsProductResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProductResponse> getSavingsProductsByType(String productType) {
-        List<SavingsProduct> products = savingsProductRepository.findByProductTypeAndIsActiveTrue(productType);
+        List<SavingsProduct> products = savingsProductCatalog.current().getByType(productType);
         return products.stream()
                 .map(SavingsProductResponse::new)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public SavingsProductResponse getSavingsProductById(Long productId) {
-        SavingsProduct product = savingsProductRepository.findById(productId)
+        // 판매 중지 상품은 카탈로그에 없으므로 DB에서 조회한다
+        SavingsProduct product = savingsProductCatalog.current().findById(productId)
+                .or(() -> savingsProductRepository.findById(productId))
                 .orElseThrow(() -> new RuntimeException("적금 상품을 찾을 수 없습니다."));
         return new SavingsProductResponse(product);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProductResponse> searchSavingsProducts(String keyword) {
-        List<SavingsProduct> products = savingsProductRepository.findByKeywordAndIsActiveTrue(keyword);
+        List<SavingsProduct> products = savingsProductCatalog.current().search(keyword);
         return products.stream()
                 .map(SavingsProductResponse::new)
                 .collect(Collectors.toList());
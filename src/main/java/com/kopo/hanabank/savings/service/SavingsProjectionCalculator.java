@@ -0,0 +1,59 @@
+package com.kopo.hanabank.savings.service;
+
+/**
+ * 적금 만기 예상 금액 계산기
+ * SavingsInterestRateTable과 같은 산식을 double/long 기본형 연산으로 계산해 시나리오당 객체 생성이 없다.
+ * 만기 지급액(원장)은 SavingsInterestRateTable로 계산하고, 이 계산기는 시뮬레이션 용도로만 사용한다.
+ */
+public final class SavingsProjectionCalculator {
+
+    public static final double INTEREST_TAX_RATE = SavingsInterestRateTable.INTEREST_TAX_PER_MILLE / 1000.0;
+
+    private SavingsProjectionCalculator() {
+    }
+
+    /**
+     * 원금 대비 만기 이자 배수
+     *
+     * @param rateKey 연 금리(%) x 100
+     */
+    public static double interestFactor(int termMonths, boolean installment, boolean compound, int rateKey) {
+        if (termMonths <= 0 || rateKey <= 0) {
+            return 0.0;
+        }
+
+        double monthlyRate = rateKey / 120000.0;
+
+        if (!compound) {
+            // 단리: 적립식은 평균 예치기간 (n+1)/2 개월 적용
+            double months = installment ? (termMonths + 1) / 2.0 : termMonths;
+            return monthlyRate * months;
+        }
+
+        double power = Math.pow(1.0 + monthlyRate, termMonths);
+        if (!installment) {
+            return power - 1.0;
+        }
+
+        // 월복리 적립식: (1/n) x Σ(1+m)^k (k=1..n) - 1 을 등비급수 합으로 계산
+        return (1.0 + monthlyRate) * (power - 1.0) / (monthlyRate * termMonths) - 1.0;
+    }
+
+    public static long totalPrincipal(long amount, int termMonths, boolean installment) {
+        return installment ? amount * termMonths : amount;
+    }
+
+    /**
+     * 세전 이자 (원 미만 절사)
+     */
+    public static long interest(long principal, double factor) {
+        return principal <= 0 ? 0L : (long) (principal * factor);
+    }
+
+    /**
+     * 이자소득세 (만기 지급과 같은 원천징수 산식)
+     */
+    public static long tax(long interest) {
+        return SavingsInterestRateTable.withholdingTax(interest);
+    }
+}
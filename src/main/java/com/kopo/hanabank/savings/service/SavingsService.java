@@ -12,6 +12,7 @@ import com.kopo.hanabank.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -26,16 +27,20 @@ import java.util.UUID;
 public class SavingsService {
 
     private final SavingsProductRepository savingsProductRepository;
+    private final SavingsProductCatalog savingsProductCatalog;
     private final SavingsAccountRepository savingsAccountRepository;
     private final UserService userService;
     private final DemandDepositAccountService demandDepositAccountService;
 
+    // 카탈로그에서 읽는 조회는 트랜잭션(커넥션)을 열지 않는다
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProduct> getAllSavingsProducts() {
-        return savingsProductRepository.findByIsActiveTrue();
+        return savingsProductCatalog.current().getProducts();
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SavingsProduct> getSavingsProductsByType(SavingsProduct.DepositType depositType) {
-        return savingsProductRepository.findByIsActiveTrueAndDepositType(depositType);
+        return savingsProductCatalog.current().getByCategory(depositType.name());
     }
 
     public SavingsProduct getSavingsProductById(Long productId) {
@@ -61,7 +66,7 @@ public class SavingsService {
                                                              String withdrawalBankName) {
         log.info("적금 계좌 생성 시작 - 사용자ID: {}, 상품ID: {}, 가입금액: {}", userId, productId, applicationAmount);
         
-        User user = userService.getUserById(userId);
+        User user = userService.getUserReference(userId);
         SavingsProduct product = getSavingsProductById(productId);
 
         // 계좌번호 생성
@@ -136,8 +141,8 @@ public class SavingsService {
     }
 
     public List<SavingsAccount> getUserSavingsAccounts(Long userId) {
-        User user = userService.getUserById(userId);
-        return savingsAccountRepository.findByUser(user);
+        userService.validateUser(userId);
+        return savingsAccountRepository.findByUserId(userId);
     }
 
     public SavingsAccount getSavingsAccountByNumber(String accountNumber) {
@@ -145,9 +150,15 @@ public class SavingsService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.SAVINGS_ACCOUNT_NOT_FOUND));
     }
 
+    // 잔액을 바꾸는 요청은 행 락을 잡고 읽어 동시 입출금의 갱신 손실을 막는다
+    private SavingsAccount getSavingsAccountForUpdate(String accountNumber) {
+        return savingsAccountRepository.findForUpdateByAccountNumber(accountNumber)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SAVINGS_ACCOUNT_NOT_FOUND));
+    }
+
     @Transactional
     public SavingsAccount depositToSavings(String accountNumber, Long amount) {
-        SavingsAccount account = getSavingsAccountByNumber(accountNumber);
+        SavingsAccount account = getSavingsAccountForUpdate(accountNumber);
         
         if (amount <= 0) {
             throw new BusinessException(ErrorCode.INVALID_AMOUNT);
@@ -164,7 +175,7 @@ public class SavingsService {
 
     @Transactional
     public SavingsAccount withdrawFromSavings(String accountNumber, Long amount) {
-        SavingsAccount account = getSavingsAccountByNumber(accountNumber);
+        SavingsAccount account = getSavingsAccountForUpdate(accountNumber);
         
         if (amount <= 0) {
             throw new BusinessException(ErrorCode.INVALID_AMOUNT);
@@ -199,7 +210,7 @@ public class SavingsService {
         return updatedAccount;
     }
 
-    private String generateAccountNumber() {
+    static String generateAccountNumber() {
         String prefix = "506";
         String middle = String.format("%06d", (int) (Math.random() * 1000000));
         String suffix = String.format("%05d", (int) (Math.random() * 100000));
@@ -0,0 +1,211 @@
+package com.kopo.hanabank.savings.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.savings.domain.SavingsProduct;
+import com.kopo.hanabank.savings.dto.SavingsSimulationRequest;
+import com.kopo.hanabank.savings.dto.SavingsSimulationResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 적금 만기 시뮬레이션
+ * 상품 x 기간 x 금액 x 우대금리 조합을 평탄화한 배열로 만들고 fork/join으로 나눠 계산한다.
+ * 시나리오 결과는 (상품, 기간, 기본금리, 우대금리, 금액) 키로 캐시한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SavingsSimulationService {
+
+    private static final int MAX_SCENARIOS = 10_000;
+    private static final int SEQUENTIAL_THRESHOLD = 256;
+
+    private final SavingsService savingsService;
+
+    // 상품 금리/명칭 변경이 반영되도록 짧게 유지한다
+    private final Cache<ScenarioKey, SavingsSimulationResponse> scenarioCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    public List<SavingsSimulationResponse> simulate(SavingsSimulationRequest request) {
+        List<SavingsProduct> products = resolveProducts(request.getProductIds());
+        Grid grid = Grid.of(products, request);
+
+        ForkJoinPool.commonPool().invoke(new ProjectionTask(grid, 0, grid.size));
+
+        log.debug("적금 시뮬레이션 완료 - 상품: {}개, 시나리오: {}건", products.size(), grid.size);
+        return Arrays.asList(grid.results);
+    }
+
+    private List<SavingsProduct> resolveProducts(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return savingsService.getAllSavingsProducts();
+        }
+        return productIds.stream()
+                .distinct()
+                .map(savingsService::getSavingsProductById)
+                .toList();
+    }
+
+    private SavingsSimulationResponse project(Grid grid, int index) {
+        int p = grid.productIndex[index];
+        ScenarioKey key = new ScenarioKey(grid.productIds[p], grid.terms[index], grid.baseRateKeys[p],
+                grid.preferentialRateKeys[index], grid.amounts[index]);
+
+        SavingsSimulationResponse cached = scenarioCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        int termMonths = grid.terms[index];
+        int rateKey = grid.baseRateKeys[p] + grid.preferentialRateKeys[index];
+        boolean installment = grid.installment[p];
+
+        double factor = SavingsProjectionCalculator.interestFactor(termMonths, installment, grid.compound[p], rateKey);
+        long principal = SavingsProjectionCalculator.totalPrincipal(grid.amounts[index], termMonths, installment);
+        long interest = SavingsProjectionCalculator.interest(principal, factor);
+        long tax = SavingsProjectionCalculator.tax(interest);
+
+        SavingsSimulationResponse response = SavingsSimulationResponse.builder()
+                .productId(grid.productIds[p])
+                .productName(grid.productNames[p])
+                .termMonths(termMonths)
+                .installment(installment)
+                .amount(grid.amounts[index])
+                .preferentialRate(BigDecimal.valueOf(grid.preferentialRateKeys[index], 2))
+                .finalRate(BigDecimal.valueOf(rateKey, 2))
+                .totalPrincipal(principal)
+                .interest(interest)
+                .tax(tax)
+                .maturityAmount(principal + interest - tax)
+                .build();
+
+        scenarioCache.put(key, response);
+        return response;
+    }
+
+    private static int toRateKey(BigDecimal rate) {
+        return rate == null ? 0 : rate.movePointRight(2).intValue();
+    }
+
+    private record ScenarioKey(long productId, int termMonths, int baseRateKey, int preferentialRateKey, long amount) {
+    }
+
+    /**
+     * 시나리오 격자 (상품 속성은 상품 단위 배열, 시나리오 속성은 시나리오 단위 배열)
+     */
+    private static class Grid {
+        private long[] productIds;
+        private String[] productNames;
+        private int[] baseRateKeys;
+        private boolean[] installment;
+        private boolean[] compound;
+
+        private int size;
+        private int[] productIndex;
+        private int[] terms;
+        private int[] preferentialRateKeys;
+        private long[] amounts;
+        private SavingsSimulationResponse[] results;
+
+        private static Grid of(List<SavingsProduct> products, SavingsSimulationRequest request) {
+            List<Long> amounts = request.getAmounts();
+            List<Integer> requestedTerms = request.getTermMonths();
+            List<BigDecimal> requestedRates = request.getPreferentialRates();
+            boolean useProductTerm = requestedTerms == null || requestedTerms.isEmpty();
+            boolean useProductRates = requestedRates == null || requestedRates.isEmpty();
+
+            int productCount = products.size();
+            Grid grid = new Grid();
+            grid.productIds = new long[productCount];
+            grid.productNames = new String[productCount];
+            grid.baseRateKeys = new int[productCount];
+            grid.installment = new boolean[productCount];
+            grid.compound = new boolean[productCount];
+
+            long total = 0;
+            for (int p = 0; p < productCount; p++) {
+                int termCount = useProductTerm ? 1 : requestedTerms.size();
+                int rateCount = useProductRates ? 2 : requestedRates.size();
+                total += (long) termCount * rateCount * amounts.size();
+            }
+            if (total > MAX_SCENARIOS) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST);
+            }
+
+            grid.size = (int) total;
+            grid.productIndex = new int[grid.size];
+            grid.terms = new int[grid.size];
+            grid.preferentialRateKeys = new int[grid.size];
+            grid.amounts = new long[grid.size];
+            grid.results = new SavingsSimulationResponse[grid.size];
+
+            int index = 0;
+            for (int p = 0; p < productCount; p++) {
+                SavingsProduct product = products.get(p);
+                grid.productIds[p] = product.getProductId();
+                grid.productNames[p] = product.getProductName();
+                grid.baseRateKeys[p] = toRateKey(product.getBasicRate());
+                grid.installment[p] = product.isInstallment();
+                grid.compound[p] = product.isCompoundInterest();
+
+                int productTerm = product.getTermMonths() != null ? product.getTermMonths() : 0;
+                int[] termOptions = useProductTerm
+                        ? new int[]{productTerm}
+                        : requestedTerms.stream().mapToInt(Integer::intValue).toArray();
+                int[] rateOptions = useProductRates
+                        ? new int[]{0, toRateKey(product.getPreferentialRate())}
+                        : requestedRates.stream().mapToInt(SavingsSimulationService::toRateKey).toArray();
+
+                for (int term : termOptions) {
+                    for (int rateKey : rateOptions) {
+                        for (Long amount : amounts) {
+                            grid.productIndex[index] = p;
+                            grid.terms[index] = term;
+                            grid.preferentialRateKeys[index] = rateKey;
+                            grid.amounts[index] = amount;
+                            index++;
+                        }
+                    }
+                }
+            }
+            return grid;
+        }
+    }
+
+    private class ProjectionTask extends RecursiveAction {
+        private final Grid grid;
+        private final int from;
+        private final int to;
+
+        private ProjectionTask(Grid grid, int from, int to) {
+            this.grid = grid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    grid.results[i] = project(grid, i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ProjectionTask(grid, from, mid), new ProjectionTask(grid, mid, to));
+        }
+    }
+}
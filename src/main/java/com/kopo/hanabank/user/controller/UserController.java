@@ -2,17 +2,23 @@ package com.kopo.hanabank.user.controller;
 
 import com.kopo.hanabank.common.dto.ApiResponse;
 import com.kopo.hanabank.user.domain.User;
+import com.kopo.hanabank.user.domain.UserSnapshot;
+import com.kopo.hanabank.user.dto.BulkOnboardingRequest;
+import com.kopo.hanabank.user.dto.BulkOnboardingResponse;
 import com.kopo.hanabank.user.dto.UserCreateRequest;
+import com.kopo.hanabank.user.dto.UserPageResponse;
 import com.kopo.hanabank.user.dto.UserResponse;
+import com.kopo.hanabank.user.service.UserOnboardingService;
 import com.kopo.hanabank.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
-import java.util.stream.Collectors;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "사용자 관리", description = "사용자 관련 API")
 @RestController
@@ -21,6 +27,7 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserService userService;
+    private final UserOnboardingService userOnboardingService;
 
     @Operation(summary = "사용자 생성", description = "새로운 사용자를 생성합니다.")
     @PostMapping
@@ -36,35 +43,54 @@ public class UserController {
         return ApiResponse.success("사용자가 성공적으로 생성되었습니다.", new UserResponse(user));
     }
 
+    @Operation(summary = "사용자 일괄 가입",
+            description = "사용자와 입출금 계좌를 한 번에 최대 10,000건 생성합니다. 행별 성공/실패 결과를 요청 순서대로 반환합니다.")
+    @PostMapping("/bulk-onboarding")
+    public ApiResponse<BulkOnboardingResponse> onboardUsers(@Valid @RequestBody BulkOnboardingRequest request) {
+        BulkOnboardingResponse response = userOnboardingService.onboard(request);
+        return ApiResponse.success("일괄 가입이 처리되었습니다.", response);
+    }
+
     @Operation(summary = "사용자 조회", description = "ID로 사용자를 조회합니다.")
     @GetMapping("/{id}")
     public ApiResponse<UserResponse> getUser(@PathVariable Long id) {
-        User user = userService.getUserById(id);
+        UserSnapshot user = userService.getUser(id);
         return ApiResponse.success(new UserResponse(user));
     }
 
     @Operation(summary = "사용자명으로 조회", description = "사용자명으로 사용자를 조회합니다.")
     @GetMapping("/username/{username}")
     public ApiResponse<UserResponse> getUserByUsername(@PathVariable String username) {
-        User user = userService.getUserByUsername(username);
+        UserSnapshot user = userService.getUserByUsername(username);
         return ApiResponse.success(new UserResponse(user));
     }
 
     @Operation(summary = "이메일로 조회", description = "이메일로 사용자를 조회합니다.")
     @GetMapping("/email/{email}")
     public ApiResponse<UserResponse> getUserByEmail(@PathVariable String email) {
-        User user = userService.getUserByEmail(email);
+        UserSnapshot user = userService.getUserByEmail(email);
         return ApiResponse.success(new UserResponse(user));
     }
 
-    @Operation(summary = "전체 사용자 조회", description = "모든 사용자를 조회합니다.")
+    @Operation(summary = "사용자 목록 조회",
+            description = "id 순으로 사용자를 조회합니다. cursor(이전 응답의 nextCursor)를 주면 키셋 조회, 없으면 page 번호로 조회합니다.")
     @GetMapping
-    public ApiResponse<List<UserResponse>> getAllUsers() {
-        List<User> users = userService.getAllUsers();
-        List<UserResponse> userResponses = users.stream()
-                .map(UserResponse::new)
-                .collect(Collectors.toList());
-        return ApiResponse.success(userResponses);
+    public ApiResponse<UserPageResponse> getUsers(
+            @Parameter(description = "페이지 번호 (0부터)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 1000)") @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "이 id 이후부터 조회") @RequestParam(required = false) Long cursor) {
+        UserPageResponse response = cursor != null
+                ? userService.getUsersAfter(cursor, size)
+                : userService.getUsers(page, size);
+        return ApiResponse.success(response);
+    }
+
+    @Operation(summary = "전체 사용자 내보내기", description = "전체 사용자를 id 순 JSON 배열로 스트리밍합니다.")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(userService::exportUsers);
     }
 
     @Operation(summary = "사용자 정보 수정", description = "사용자 정보를 수정합니다.")
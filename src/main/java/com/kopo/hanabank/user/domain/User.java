@@ -48,6 +48,10 @@ public class User {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 기존 행과의 호환을 위해 nullable, 비어 있으면 createdAt 이후 수정되지 않은 것으로 본다
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
     @Builder
     public User(Long id, String username, String email, String phoneNumber, String name, 
                 String birthDate, String address, String customerGrade, Boolean isActive, String ci, LocalDateTime createdAt) {
@@ -69,6 +73,16 @@ public class User {
         if (this.createdAt == null) {
             this.createdAt = LocalDateTime.now();
         }
+        this.modifiedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getLastModifiedAt() {
+        return this.modifiedAt != null ? this.modifiedAt : this.createdAt;
     }
 
     public void updateUserInfo(String name, String address) {
@@ -0,0 +1,17 @@
+package com.kopo.hanabank.user.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시용 사용자 불변 스냅샷 (영속성 컨텍스트와 무관하게 여러 요청이 공유한다)
+ */
+public record UserSnapshot(Long id, String username, String email, String phoneNumber, String name,
+                           String birthDate, String address, Boolean isActive, String ci,
+                           String customerGrade, LocalDateTime createdAt, LocalDateTime lastModifiedAt) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getUsername(), user.getEmail(), user.getPhoneNumber(),
+                user.getName(), user.getBirthDate(), user.getAddress(), user.getIsActive(), user.getCi(),
+                user.getCustomerGrade(), user.getCreatedAt(), user.getLastModifiedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package com.kopo.hanabank.user.dto;
+
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 일괄 가입 요청 (사용자 목록과 함께 개설할 입출금 계좌 조건)
+ * 사용자 행은 개별 검증하므로 형식이 잘못된 행이 있어도 나머지 행은 처리된다.
+ */
+@Getter
+@NoArgsConstructor
+public class BulkOnboardingRequest {
+
+    @NotNull(message = "계좌 종류는 필수입니다.")
+    private DemandDepositAccount.AccountType accountType;
+
+    @Size(max = 100, message = "계좌명은 100자 이하여야 합니다.")
+    private String accountName;
+
+    private BigDecimal baseInterestRate;
+
+    @NotEmpty(message = "가입할 사용자가 없습니다.")
+    @Size(max = 10000, message = "한 번에 최대 10,000명까지 가입할 수 있습니다.")
+    private List<UserCreateRequest> users;
+}
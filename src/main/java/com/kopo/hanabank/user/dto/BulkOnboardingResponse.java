@@ -0,0 +1,38 @@
+package com.kopo.hanabank.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class BulkOnboardingResponse {
+    private Integer requestedCount;
+    private Integer succeededCount;
+    private Integer failedCount;
+    private Long elapsedMillis;
+    // 요청 순서와 같은 순서의 행별 결과
+    private List<Row> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private Integer index;
+        private String username;
+        private Boolean success;
+        private Long userId;
+        private String accountNumber;
+        private String reason;
+
+        public static Row succeeded(int index, String username, Long userId, String accountNumber) {
+            return new Row(index, username, true, userId, accountNumber, null);
+        }
+
+        public static Row failed(int index, String username, String reason) {
+            return new Row(index, username, false, null, null, reason);
+        }
+    }
+}
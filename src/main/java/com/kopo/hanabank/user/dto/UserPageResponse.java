@@ -0,0 +1,22 @@
+package com.kopo.hanabank.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserPageResponse {
+    private List<UserResponse> content;
+    private Integer size;
+    private Boolean hasNext;
+    // 다음 요청의 cursor로 넘길 마지막 사용자 id (다음 페이지가 없으면 null)
+    private Long nextCursor;
+    // 페이지 번호 조회일 때만 채워진다
+    private Integer page;
+    private Long totalElements;
+    private Integer totalPages;
+}
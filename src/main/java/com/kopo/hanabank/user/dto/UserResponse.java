@@ -1,6 +1,7 @@
 package com.kopo.hanabank.user.dto;
 
 import com.kopo.hanabank.user.domain.User;
+import com.kopo.hanabank.user.domain.UserSnapshot;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -28,5 +29,17 @@ public class UserResponse {
         this.isActive = user.getIsActive();
         this.createdAt = user.getCreatedAt();
     }
+
+    public UserResponse(UserSnapshot user) {
+        this.id = user.id();
+        this.username = user.username();
+        this.email = user.email();
+        this.phoneNumber = user.phoneNumber();
+        this.name = user.name();
+        this.birthDate = user.birthDate();
+        this.address = user.address();
+        this.isActive = user.isActive();
+        this.createdAt = user.createdAt();
+    }
 }
 
@@ -0,0 +1,55 @@
+package com.kopo.hanabank.user.repository;
+
+import com.kopo.hanabank.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+/**
+ * 전체 사용자 내보내기용 JDBC 저장소
+ * 전진 전용 커서로 한 행씩 읽어 넘기므로 영속성 컨텍스트나 결과 목록이 쌓이지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // MySQL 드라이버는 Integer.MIN_VALUE일 때 결과를 미리 받지 않고 행 단위로 스트리밍한다
+    @Value("${user.export.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    /**
+     * id 순으로 모든 사용자를 읽는다 (응답에 필요한 컬럼만 채운 비영속 User)
+     */
+    public void streamAll(Consumer<User> action) {
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT id, username, email, phone_number, name, birth_date, address, is_active, created_at " +
+                            "FROM users ORDER BY id",
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    return statement;
+                },
+                rs -> {
+                    Timestamp createdAt = rs.getTimestamp(9);
+                    action.accept(User.builder()
+                            .id(rs.getLong(1))
+                            .username(rs.getString(2))
+                            .email(rs.getString(3))
+                            .phoneNumber(rs.getString(4))
+                            .name(rs.getString(5))
+                            .birthDate(rs.getString(6))
+                            .address(rs.getString(7))
+                            .isActive(rs.getBoolean(8))
+                            .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                            .build());
+                });
+    }
+}
@@ -0,0 +1,93 @@
+package com.kopo.hanabank.user.repository;
+
+import com.kopo.hanabank.user.dto.UserCreateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 일괄 가입용 JDBC 저장소
+ * 중복 확인은 IN 집합 조회로, 삽입은 JDBC 배치로 처리한다 (rewriteBatchedStatements 사용 시 다중 행 INSERT).
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserOnboardingRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 주어진 값 중 이미 사용 중인 사용자명/이메일/전화번호
+     */
+    public Set<String> findExisting(UniqueColumn column, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT " + column.name + " FROM users WHERE " + column.name + " IN (:values)",
+                Map.of("values", values), String.class));
+    }
+
+    public void insertUsers(List<UserCreateRequest> users, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(
+                "INSERT INTO users (username, email, phone_number, name, birth_date, address, is_active, " +
+                "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserCreateRequest user = users.get(i);
+                        ps.setString(1, user.getUsername());
+                        ps.setString(2, user.getEmail());
+                        ps.setString(3, user.getPhoneNumber());
+                        ps.setString(4, user.getName());
+                        ps.setString(5, user.getBirthDate());
+                        ps.setString(6, user.getAddress());
+                        ps.setTimestamp(7, timestamp);
+                        ps.setTimestamp(8, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return users.size();
+                    }
+                });
+    }
+
+    /**
+     * 사용자명 -> id (배치 삽입 후 생성 키를 드라이버와 무관하게 한 번에 읽는다)
+     */
+    public Map<String, Long> findIdsByUsernames(Collection<String> usernames) {
+        Map<String, Long> ids = new HashMap<>(usernames.size() * 2);
+        namedParameterJdbcTemplate.query(
+                "SELECT id, username FROM users WHERE username IN (:usernames)",
+                Map.of("usernames", usernames),
+                rs -> {
+                    ids.put(rs.getString(2), rs.getLong(1));
+                });
+        return ids;
+    }
+
+    public enum UniqueColumn {
+        USERNAME("username"),
+        EMAIL("email"),
+        PHONE_NUMBER("phone_number");
+
+        private final String name;
+
+        UniqueColumn(String name) {
+            this.name = name;
+        }
+    }
+}
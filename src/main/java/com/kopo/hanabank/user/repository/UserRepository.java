@@ -1,9 +1,13 @@
 package com.kopo.hanabank.user.repository;
 
 import com.kopo.hanabank.user.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,13 +21,36 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     Optional<User> findByCi(String ci);
     
-    boolean existsByUsername(String username);
-    
-    boolean existsByEmail(String email);
-    
-    boolean existsByPhoneNumber(String phoneNumber);
-    
     boolean existsByCi(String ci);
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.phoneNumber = :phoneNumber")
+    Optional<Long> findIdByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+    @Query("SELECT u.id FROM User u WHERE u.ci = :ci")
+    Optional<Long> findIdByCi(@Param("ci") String ci);
+
+    // 세 유니크 키 중 하나라도 일치하는 사용자 (최대 3건)
+    @Query("SELECT u.username AS username, u.email AS email, u.phoneNumber AS phoneNumber FROM User u " +
+           "WHERE u.username = :username OR u.email = :email OR u.phoneNumber = :phoneNumber")
+    List<UserKeys> findByAnyKey(@Param("username") String username, @Param("email") String email,
+                                @Param("phoneNumber") String phoneNumber);
+
+    interface UserKeys {
+        String getUsername();
+
+        String getEmail();
+
+        String getPhoneNumber();
+    }
+
+    // 키셋 페이지 (id > cursor), 오프셋과 달리 뒤 페이지로 갈수록 느려지지 않는다
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
 
 
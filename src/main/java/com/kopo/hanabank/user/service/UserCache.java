@@ -0,0 +1,92 @@
+package com.kopo.hanabank.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kopo.hanabank.user.domain.UserSnapshot;
+import com.kopo.hanabank.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 스냅샷 캐시 (id, 사용자명, 이메일, 전화번호, CI로 조회)
+ * 스냅샷은 id 단위로만 보관하고 나머지 키는 id로 가는 색인만 두므로, id 항목 하나를 지우면 모든 키의 조회가 함께 갱신된다.
+ * 수정/비활성화는 커밋 후 id 항목과 색인을 함께 무효화한다. 없는 사용자는 캐시하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserCache {
+
+    private final UserRepository userRepository;
+
+    private final Cache<Long, UserSnapshot> snapshots = Caffeine.newBuilder()
+            .maximumSize(200_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    // "유형:값" -> 사용자 id
+    private final Cache<String, Long> ids = Caffeine.newBuilder()
+            .maximumSize(500_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    public Optional<UserSnapshot> getById(Long id) {
+        // 적재 중 무효화가 들어오면 적재가 끝난 뒤 제거되므로 커밋 전 값이 남지 않는다
+        return Optional.ofNullable(snapshots.get(id,
+                key -> userRepository.findById(key).map(UserSnapshot::from).orElse(null)));
+    }
+
+    public Optional<UserSnapshot> getByUsername(String username) {
+        return getByKey("username:" + username, username, UserSnapshot::username,
+                () -> userRepository.findIdByUsername(username));
+    }
+
+    public Optional<UserSnapshot> getByEmail(String email) {
+        return getByKey("email:" + email, email, UserSnapshot::email,
+                () -> userRepository.findIdByEmail(email));
+    }
+
+    public Optional<UserSnapshot> getByPhoneNumber(String phoneNumber) {
+        return getByKey("phone:" + phoneNumber, phoneNumber, UserSnapshot::phoneNumber,
+                () -> userRepository.findIdByPhoneNumber(phoneNumber));
+    }
+
+    public Optional<UserSnapshot> getByCi(String ci) {
+        return getByKey("ci:" + ci, ci, UserSnapshot::ci,
+                () -> userRepository.findIdByCi(ci));
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        snapshots.invalidate(event.userId());
+        ids.invalidate("username:" + event.username());
+        ids.invalidate("email:" + event.email());
+        ids.invalidate("phone:" + event.phoneNumber());
+        if (event.ci() != null) {
+            ids.invalidate("ci:" + event.ci());
+        }
+        log.debug("사용자 캐시 무효화 - 사용자ID: {}", event.userId());
+    }
+
+    private Optional<UserSnapshot> getByKey(String cacheKey, String value, Function<UserSnapshot, String> keyOf,
+                                            Supplier<Optional<Long>> idLoader) {
+        Long id = ids.get(cacheKey, key -> idLoader.get().orElse(null));
+        if (id == null) {
+            return Optional.empty();
+        }
+        Optional<UserSnapshot> snapshot = getById(id);
+        // 색인이 가리키는 사용자의 키가 바뀌었으면 색인을 버리고 다시 찾는다
+        if (snapshot.isEmpty() || !value.equals(keyOf.apply(snapshot.get()))) {
+            ids.invalidate(cacheKey);
+            return idLoader.get().flatMap(this::getById);
+        }
+        return snapshot;
+    }
+}
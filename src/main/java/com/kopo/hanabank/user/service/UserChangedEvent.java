@@ -0,0 +1,7 @@
+package com.kopo.hanabank.user.service;
+
+/**
+ * 사용자 정보가 바뀌었음을 알리는 이벤트 (커밋 후 사용자 캐시의 모든 키 무효화용)
+ */
+record UserChangedEvent(Long userId, String username, String email, String phoneNumber, String ci) {
+}
@@ -0,0 +1,43 @@
+package com.kopo.hanabank.user.service;
+
+import com.kopo.hanabank.deposit.repository.DemandDepositBulkRepository;
+import com.kopo.hanabank.user.dto.BulkOnboardingRequest;
+import com.kopo.hanabank.user.dto.UserCreateRequest;
+import com.kopo.hanabank.user.repository.UserOnboardingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 가입 청크 처리기 (청크 단위 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+public class UserOnboardingProcessor {
+
+    private final UserOnboardingRepository userOnboardingRepository;
+    private final DemandDepositBulkRepository demandDepositBulkRepository;
+
+    /**
+     * 사용자와 입출금 계좌를 배치 삽입한다 (users[i]에게 accountNumbers[i] 개설)
+     *
+     * @return 사용자명 -> 생성된 사용자 id
+     */
+    @Transactional
+    public Map<String, Long> insertChunk(List<UserCreateRequest> users, List<String> accountNumbers,
+                                         BulkOnboardingRequest request, LocalDateTime now) {
+        userOnboardingRepository.insertUsers(users, now);
+        Map<String, Long> userIds = userOnboardingRepository.findIdsByUsernames(
+                users.stream().map(UserCreateRequest::getUsername).toList());
+
+        demandDepositBulkRepository.insertAccounts(
+                users.stream().map(user -> userIds.get(user.getUsername())).toList(),
+                accountNumbers, request.getAccountType(), request.getAccountName(),
+                request.getBaseInterestRate(), now.toLocalDate(), now);
+        return userIds;
+    }
+}
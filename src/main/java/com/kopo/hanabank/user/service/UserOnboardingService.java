@@ -0,0 +1,232 @@
+package com.kopo.hanabank.user.service;
+
+import com.kopo.hanabank.deposit.repository.DemandDepositBulkRepository;
+import com.kopo.hanabank.user.dto.BulkOnboardingRequest;
+import com.kopo.hanabank.user.dto.BulkOnboardingResponse;
+import com.kopo.hanabank.user.dto.UserCreateRequest;
+import com.kopo.hanabank.user.repository.UserOnboardingRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * 사용자 + 입출금 계좌 일괄 가입 (기업/급여 계좌 단체 가입)
+ * 행 검증과 요청 내 중복, DB 중복을 집합 조회로 먼저 걸러내고, 통과한 행만 청크 단위 트랜잭션에서 JDBC 배치로 삽입한다.
+ * 청크가 실패하면(동시 가입으로 인한 유니크 제약 위반 등) 행 단위로 다시 처리해 실패 행만 격리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserOnboardingService {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+    private static final int ACCOUNT_NUMBER_RETRIES = 3;
+
+    private final UserOnboardingRepository userOnboardingRepository;
+    private final DemandDepositBulkRepository demandDepositBulkRepository;
+    private final UserOnboardingProcessor userOnboardingProcessor;
+    private final Validator validator;
+
+    @Value("${user.onboarding.chunk-size:500}")
+    private int chunkSize;
+
+    public BulkOnboardingResponse onboard(BulkOnboardingRequest request) {
+        long startedAt = System.currentTimeMillis();
+        List<UserCreateRequest> users = request.getUsers();
+        BulkOnboardingResponse.Row[] results = new BulkOnboardingResponse.Row[users.size()];
+
+        validateRows(users, results);
+        rejectDuplicatesInRequest(users, results);
+        rejectExisting(users, results, UserOnboardingRepository.UniqueColumn.USERNAME,
+                UserCreateRequest::getUsername, "이미 사용 중인 사용자명입니다.");
+        rejectExisting(users, results, UserOnboardingRepository.UniqueColumn.EMAIL,
+                UserCreateRequest::getEmail, "이미 사용 중인 이메일입니다.");
+        rejectExisting(users, results, UserOnboardingRepository.UniqueColumn.PHONE_NUMBER,
+                UserCreateRequest::getPhoneNumber, "이미 사용 중인 전화번호입니다.");
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            if (results[i] == null) {
+                pending.add(i);
+            }
+        }
+        List<String> accountNumbers = allocateAccountNumbers(pending.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, pending.size());
+            insertChunk(users, pending.subList(from, to), accountNumbers.subList(from, to), request, now, results);
+        }
+
+        int succeeded = (int) Arrays.stream(results).filter(BulkOnboardingResponse.Row::getSuccess).count();
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("일괄 가입 완료 - 요청: {}건, 성공: {}건, 실패: {}건, 소요: {}ms",
+                users.size(), succeeded, users.size() - succeeded, elapsed);
+
+        return BulkOnboardingResponse.builder()
+                .requestedCount(users.size())
+                .succeededCount(succeeded)
+                .failedCount(users.size() - succeeded)
+                .elapsedMillis(elapsed)
+                .results(List.of(results))
+                .build();
+    }
+
+    private void insertChunk(List<UserCreateRequest> users, List<Integer> indexes, List<String> accountNumbers,
+                             BulkOnboardingRequest request, LocalDateTime now,
+                             BulkOnboardingResponse.Row[] results) {
+        List<UserCreateRequest> chunk = indexes.stream().map(users::get).toList();
+        try {
+            Map<String, Long> userIds = userOnboardingProcessor.insertChunk(chunk, accountNumbers, request, now);
+            for (int i = 0; i < indexes.size(); i++) {
+                UserCreateRequest user = chunk.get(i);
+                results[indexes.get(i)] = BulkOnboardingResponse.Row.succeeded(indexes.get(i), user.getUsername(),
+                        userIds.get(user.getUsername()), accountNumbers.get(i));
+            }
+        } catch (Exception e) {
+            // 청크 전체가 롤백되었으므로 행 단위로 다시 처리해 실패 행만 격리한다
+            log.warn("일괄 가입 청크 처리 실패, 행별 재처리 - 건수: {}, 오류: {}", chunk.size(), e.getMessage());
+            for (int i = 0; i < indexes.size(); i++) {
+                insertSingle(chunk.get(i), indexes.get(i), accountNumbers.get(i), request, now, results);
+            }
+        }
+    }
+
+    private void insertSingle(UserCreateRequest user, int index, String accountNumber, BulkOnboardingRequest request,
+                              LocalDateTime now, BulkOnboardingResponse.Row[] results) {
+        String candidate = accountNumber;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                Map<String, Long> userIds = userOnboardingProcessor.insertChunk(
+                        List.of(user), List.of(candidate), request, now);
+                results[index] = BulkOnboardingResponse.Row.succeeded(index, user.getUsername(),
+                        userIds.get(user.getUsername()), candidate);
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // 동시 요청이 같은 계좌번호를 먼저 가져간 경우에만 새 번호로 다시 시도한다
+                if (attempt < ACCOUNT_NUMBER_RETRIES
+                        && !demandDepositBulkRepository.findExistingAccountNumbers(List.of(candidate)).isEmpty()) {
+                    candidate = allocateAccountNumbers(1).get(0);
+                    continue;
+                }
+                results[index] = BulkOnboardingResponse.Row.failed(index, user.getUsername(),
+                        "이미 존재하는 사용자이거나 계좌번호가 중복되었습니다.");
+                return;
+            } catch (Exception e) {
+                log.error("일괄 가입 행 처리 실패 - 사용자명: {}, 오류: {}", user.getUsername(), e.getMessage(), e);
+                results[index] = BulkOnboardingResponse.Row.failed(index, user.getUsername(), "가입 처리 중 오류가 발생했습니다.");
+                return;
+            }
+        }
+    }
+
+    private void validateRows(List<UserCreateRequest> users, BulkOnboardingResponse.Row[] results) {
+        for (int i = 0; i < users.size(); i++) {
+            UserCreateRequest user = users.get(i);
+            if (user == null) {
+                results[i] = BulkOnboardingResponse.Row.failed(i, null, "사용자 정보가 없습니다.");
+                continue;
+            }
+            Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(user);
+            if (!violations.isEmpty()) {
+                results[i] = BulkOnboardingResponse.Row.failed(i, user.getUsername(),
+                        violations.iterator().next().getMessage());
+            }
+        }
+    }
+
+    private void rejectDuplicatesInRequest(List<UserCreateRequest> users, BulkOnboardingResponse.Row[] results) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        for (int i = 0; i < users.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            UserCreateRequest user = users.get(i);
+            String reason = !usernames.add(user.getUsername()) ? "요청 안에서 사용자명이 중복되었습니다."
+                    : !emails.add(user.getEmail()) ? "요청 안에서 이메일이 중복되었습니다."
+                    : !phoneNumbers.add(user.getPhoneNumber()) ? "요청 안에서 전화번호가 중복되었습니다."
+                    : null;
+            if (reason != null) {
+                results[i] = BulkOnboardingResponse.Row.failed(i, user.getUsername(), reason);
+            }
+        }
+    }
+
+    private void rejectExisting(List<UserCreateRequest> users, BulkOnboardingResponse.Row[] results,
+                                UserOnboardingRepository.UniqueColumn column,
+                                Function<UserCreateRequest, String> keyOf, String reason) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            if (results[i] == null) {
+                values.add(keyOf.apply(users.get(i)));
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < values.size(); from += IN_CLAUSE_SIZE) {
+            existing.addAll(userOnboardingRepository.findExisting(column,
+                    values.subList(from, Math.min(from + IN_CLAUSE_SIZE, values.size()))));
+        }
+        if (existing.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < users.size(); i++) {
+            if (results[i] == null && existing.contains(keyOf.apply(users.get(i)))) {
+                results[i] = BulkOnboardingResponse.Row.failed(i, users.get(i).getUsername(), reason);
+            }
+        }
+    }
+
+    /**
+     * 계좌번호 일괄 할당
+     * 단건 개설과 같은 형식(081 + epoch millis + 4자리)을 쓰되, 같은 밀리초에 들어온 다른 일괄 요청과 겹치지 않도록
+     * 밀리초 구간(건수 이상)과 16진 접미사를 모두 임의로 뽑는다. 이미 존재하는 번호는 IN 조회로 걸러 다시 뽑고,
+     * 조회 이후 다른 요청이 먼저 삽입한 번호는 행별 재처리에서 새 번호로 바꾼다.
+     */
+    private List<String> allocateAccountNumbers(int count) {
+        Set<String> allocated = new LinkedHashSet<>(count);
+        long baseMillis = System.currentTimeMillis();
+        int spreadMillis = Math.max(1000, count);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (allocated.size() < count) {
+            Set<String> candidates = new LinkedHashSet<>(count - allocated.size());
+            while (candidates.size() < count - allocated.size()) {
+                String candidate = "081" + (baseMillis + random.nextInt(spreadMillis))
+                        + String.format("%04X", random.nextInt(0x10000));
+                if (!allocated.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            List<String> candidateList = new ArrayList<>(candidates);
+            Set<String> existing = new HashSet<>();
+            for (int from = 0; from < candidateList.size(); from += IN_CLAUSE_SIZE) {
+                existing.addAll(demandDepositBulkRepository.findExistingAccountNumbers(
+                        candidateList.subList(from, Math.min(from + IN_CLAUSE_SIZE, candidateList.size()))));
+            }
+            for (String candidate : candidateList) {
+                if (!existing.contains(candidate)) {
+                    allocated.add(candidate);
+                }
+            }
+        }
+        return new ArrayList<>(allocated);
+    }
+}
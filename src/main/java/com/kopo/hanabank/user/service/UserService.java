@@ -1,35 +1,64 @@
 package com.kopo.hanabank.user.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.kopo.hanabank.common.exception.BusinessException;
 import com.kopo.hanabank.common.exception.ErrorCode;
 import com.kopo.hanabank.user.domain.User;
+import com.kopo.hanabank.user.domain.UserSnapshot;
+import com.kopo.hanabank.user.dto.UserPageResponse;
+import com.kopo.hanabank.user.dto.UserResponse;
+import com.kopo.hanabank.user.repository.UserExportRepository;
 import com.kopo.hanabank.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional(readOnly = true)
 public class UserService {
 
-    private final UserRepository userRepository;
+    public static final int MAX_PAGE_SIZE = 1000;
 
-    @Transactional
-    public User createUser(String username, String email, String phoneNumber, 
+    private final UserRepository userRepository;
+    private final UserExportRepository userExportRepository;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    // 삽입 전에 세 키를 한 번의 조회로 먼저 확인할지 여부 (기본은 유니크 제약에만 의존)
+    @Value("${user.registration.pre-check:false}")
+    private boolean registrationPreCheck;
+
+    /**
+     * 사용자 생성
+     * 중복은 username/email/phone_number 유니크 제약으로 판정하고, 위반 시에만 한 번의 조회로 겹친 키를 찾아 알린다.
+     * 삽입은 저장소 트랜잭션에서 실행되므로 위반 후에도 깨끗한 영속성 컨텍스트에서 조회할 수 있다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public User createUser(String username, String email, String phoneNumber,
                           String name, String birthDate, String address) {
-        
-        // 중복 체크
-        if (userRepository.existsByUsername(username)) {
-            throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS);
-        }
-        if (userRepository.existsByEmail(email)) {
-            throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS);
-        }
-        if (userRepository.existsByPhoneNumber(phoneNumber)) {
-            throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS);
+
+        if (registrationPreCheck) {
+            checkDuplicates(username, email, phoneNumber);
         }
 
         User user = User.builder()
@@ -41,32 +70,152 @@ public class UserService {
                 .address(address)
                 .build();
 
-        return userRepository.save(user);
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            checkDuplicates(username, email, phoneNumber);
+            // 겹친 키가 없으면 유니크 제약이 아닌 다른 무결성 위반
+            throw e;
+        }
     }
 
+    /**
+     * username, email, phone_number 중 이미 사용 중인 키가 있으면 어떤 키인지 담아 예외를 던진다
+     */
+    private void checkDuplicates(String username, String email, String phoneNumber) {
+        for (UserRepository.UserKeys existing : userRepository.findByAnyKey(username, email, phoneNumber)) {
+            if (username.equals(existing.getUsername())) {
+                throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "이미 사용 중인 사용자명입니다.");
+            }
+            if (email.equals(existing.getEmail())) {
+                throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "이미 사용 중인 이메일입니다.");
+            }
+            if (phoneNumber.equals(existing.getPhoneNumber())) {
+                throw new BusinessException(ErrorCode.USER_ALREADY_EXISTS, "이미 사용 중인 전화번호입니다.");
+            }
+        }
+    }
+
+    /**
+     * 수정이 필요한 경우에만 사용한다 (조회는 캐시된 스냅샷을 쓰는 getUser)
+     */
     public User getUserById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
-    public User getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
+    public UserSnapshot getUser(Long id) {
+        return userCache.getById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    public UserSnapshot getUserByUsername(String username) {
+        return userCache.getByUsername(username)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    public UserSnapshot getUserByEmail(String email) {
+        return userCache.getByEmail(email)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
-    public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
+    public UserSnapshot getUserByCi(String ci) {
+        return userCache.getByCi(ci)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    /**
+     * 사용자 존재만 확인한다 (id 기반 조회 전 USER_NOT_FOUND 판정용)
+     */
+    public void validateUser(Long id) {
+        getUser(id);
+    }
+
+    /**
+     * 연관관계 설정용 참조, 존재 여부는 캐시로 확인하고 사용자 행은 읽지 않는다
+     */
+    public User getUserReference(Long id) {
+        validateUser(id);
+        return userRepository.getReferenceById(id);
+    }
+
+    /**
+     * 페이지 번호 조회 (id 순), 전체 건수를 함께 센다
+     */
+    public UserPageResponse getUsers(int page, int size) {
+        validatePage(page, size);
+        Page<User> users = userRepository.findAll(PageRequest.of(page, size, Sort.by("id")));
+        List<UserResponse> content = users.map(UserResponse::new).getContent();
+
+        return UserPageResponse.builder()
+                .content(content)
+                .size(size)
+                .hasNext(users.hasNext())
+                .nextCursor(users.hasNext() ? content.get(content.size() - 1).getId() : null)
+                .page(page)
+                .totalElements(users.getTotalElements())
+                .totalPages(users.getTotalPages())
+                .build();
+    }
+
+    /**
+     * 커서 조회 (id > cursor), 건수를 세지 않고 한 건 더 읽어 다음 페이지 여부만 판단한다
+     */
+    public UserPageResponse getUsersAfter(long cursor, int size) {
+        validatePage(0, size);
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(size + 1));
+        boolean hasNext = users.size() > size;
+        List<UserResponse> content = users.stream()
+                .limit(size)
+                .map(UserResponse::new)
+                .toList();
+
+        return UserPageResponse.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .build();
+    }
+
+    /**
+     * 전체 사용자를 id 순 JSON 배열로 기록한다
+     * 행을 읽는 즉시 직렬화하므로 메모리 사용량은 사용자 수와 무관하다.
+     */
+    public void exportUsers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long startedAt = System.currentTimeMillis();
+        long[] count = new long[1];
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            userExportRepository.streamAll(user -> {
+                try {
+                    writer.writeValue(generator, new UserResponse(user));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("사용자 내보내기 완료 - {}건, 소요: {}ms", count[0], System.currentTimeMillis() - startedAt);
+    }
+
+    private void validatePage(int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
     }
 
     @Transactional
     public User updateUser(Long id, String name, String address) {
         User user = getUserById(id);
         user.updateUserInfo(name, address);
+        publishChanged(user);
         return user;
     }
 
@@ -74,17 +223,11 @@ public class UserService {
     public void deactivateUser(Long id) {
         User user = getUserById(id);
         user.deactivate();
+        publishChanged(user);
     }
-}
-
-
-
-
-
-
-
-
-
-
-
 
+    private void publishChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getUsername(), user.getEmail(),
+                user.getPhoneNumber(), user.getCi()));
+    }
+}
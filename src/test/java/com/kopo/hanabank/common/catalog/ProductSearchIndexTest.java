@@ -0,0 +1,135 @@
+package com.kopo.hanabank.common.catalog;
+
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상품 키워드 검색: 한글 부분 일치(bigram/unigram), 상품명 일치 가산점, 카탈로그 교체 후 재색인
+ */
+class ProductSearchIndexTest {
+
+    private static final List<ProductSearchIndex.Field<Item>> FIELDS = List.of(
+            new ProductSearchIndex.Field<>(Item::name, 3.0f),
+            new ProductSearchIndex.Field<>(Item::description, 1.0f));
+
+    private static final Item YOUTH = new Item(1L, "하나청년도약적금", "청년의 자산 형성을 돕는 적금");
+    private static final Item FREE = new Item(2L, "자유 적금", "언제든 입금");
+    private static final Item SALARY = new Item(3L, "급여 통장", "적금 자동이체 시 적금 금리 우대, 적금 연계 적금 혜택");
+    private static final Item HOUSING = new Item(4L, "주택청약 예금", "내 집 마련");
+    private static final Item ESG = new Item(5L, "하나 ESG 펀드", null);
+
+    private final ProductSearchIndex<Item> index =
+            ProductSearchIndex.build(List.of(YOUTH, FREE, SALARY, HOUSING, ESG), FIELDS);
+
+    @Test
+    void matchesKoreanSubstringInsideWord() {
+        assertThat(index.search("도약")).containsExactly(YOUTH);
+        assertThat(index.search("청년도약")).containsExactly(YOUTH);
+        assertThat(index.search("청약")).containsExactly(HOUSING);
+    }
+
+    @Test
+    void requiresEveryBigramOfQuery() {
+        assertThat(index.search("적금")).containsExactlyInAnyOrder(YOUTH, FREE, SALARY);
+        // 두 bigram(청년, 적금)을 모두 가진 상품만
+        assertThat(index.search("청년 적금")).containsExactly(YOUTH);
+        // 글자는 모두 있지만 이어진 bigram이 없다
+        assertThat(index.search("금적")).isEmpty();
+        assertThat(index.search("대출")).isEmpty();
+    }
+
+    @Test
+    void singleSyllableUsesUnigram() {
+        assertThat(index.search("집")).containsExactly(HOUSING);
+        assertThat(index.search("약")).containsExactlyInAnyOrder(YOUTH, HOUSING);
+    }
+
+    @Test
+    void normalizesCaseSymbolsAndDecomposedHangul() {
+        assertThat(index.search("esg")).containsExactly(ESG);
+        assertThat(index.search("  ESG!! ")).containsExactly(ESG);
+        assertThat(index.search(Normalizer.normalize("도약", Normalizer.Form.NFD))).containsExactly(YOUTH);
+        assertThat(ProductSearchIndex.normalize("하나-ESG  펀드!")).isEqualTo("하나 esg 펀드");
+    }
+
+    @Test
+    void blankKeywordReturnsAllProducts() {
+        assertThat(index.search(null)).hasSize(5);
+        assertThat(index.search("  ")).hasSize(5);
+    }
+
+    @Test
+    void phraseInProductNameRanksFirst() {
+        // 급여 통장은 설명에 '적금'이 네 번 나와 빈도 점수는 더 높지만, 상품명에 검색어가 있는 상품이 앞선다
+        List<Item> result = index.search("적금");
+        assertThat(result.indexOf(FREE)).isLessThan(result.indexOf(SALARY));
+        assertThat(result.indexOf(YOUTH)).isLessThan(result.indexOf(SALARY));
+        assertThat(result.get(result.size() - 1)).isEqualTo(SALARY);
+    }
+
+    @Test
+    void reindexesWhenCatalogChanges() {
+        TestCatalog catalog = new TestCatalog();
+        catalog.replace(List.of(FREE, SALARY), LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(catalog.refresh(false)).isTrue();
+        assertThat(catalog.current().search("도약")).isEmpty();
+
+        // 요약이 같으면 다시 만들지 않는다
+        assertThat(catalog.refresh(false)).isFalse();
+
+        catalog.replace(List.of(FREE, SALARY, YOUTH), LocalDateTime.of(2025, 1, 2, 0, 0));
+        assertThat(catalog.refresh(false)).isTrue();
+        assertThat(catalog.current().search("도약")).containsExactly(YOUTH);
+
+        catalog.replace(List.of(SALARY, YOUTH), LocalDateTime.of(2025, 1, 3, 0, 0));
+        assertThat(catalog.refresh(false)).isTrue();
+        assertThat(catalog.current().search("자유")).isEmpty();
+    }
+
+    record Item(Long id, String name, String description) {
+    }
+
+    private static final class TestCatalog extends ProductCatalog<Item> {
+
+        private List<Item> products = List.of();
+        private LocalDateTime modifiedAt;
+
+        private TestCatalog() {
+            super(mock(ApplicationEventPublisher.class));
+        }
+
+        private void replace(List<Item> products, LocalDateTime modifiedAt) {
+            this.products = new ArrayList<>(products);
+            this.modifiedAt = modifiedAt;
+        }
+
+        @Override
+        public String getFamily() {
+            return "test";
+        }
+
+        @Override
+        protected ModificationStamp loadFingerprint() {
+            return ModificationStamp.of(products.size(), modifiedAt);
+        }
+
+        @Override
+        protected List<Item> loadActiveProducts() {
+            return products;
+        }
+
+        @Override
+        protected CatalogSnapshot<Item> build(long version, ModificationStamp fingerprint, List<Item> products) {
+            return CatalogSnapshot.of(version, fingerprint, products, Item::id, item -> null, null, null, FIELDS);
+        }
+    }
+}
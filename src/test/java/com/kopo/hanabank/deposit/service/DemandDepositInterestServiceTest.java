@@ -0,0 +1,115 @@
+package com.kopo.hanabank.deposit.service;
+
+import com.kopo.hanabank.deposit.repository.DemandDepositInterestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입출금 계좌 일할 이자 배치 (내장 H2, MySQL 모드)
+ * 잔액이 0인 동안에도 이자 계산일이 넘어가 입금 후에는 그날부터만 이자가 붙는지,
+ * 배치가 실제로 빠진 날은 이어서 계산하는지 확인한다.
+ */
+class DemandDepositInterestServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+    private static final long RATE_KEY = 200L;
+
+    private JdbcTemplate jdbcTemplate;
+    private ThreadPoolTaskExecutor batchTaskExecutor;
+    private DemandDepositInterestService demandDepositInterestService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:interest-" + System.nanoTime() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE demand_deposit_accounts (" +
+                "id BIGINT PRIMARY KEY, balance BIGINT NOT NULL, available_balance BIGINT NOT NULL, " +
+                "base_interest_rate DECIMAL(5, 2) NOT NULL, status VARCHAR(20) NOT NULL, is_active BOOLEAN NOT NULL, " +
+                "accrued_interest BIGINT NOT NULL, last_accrual_date DATE, last_interest_posted_date DATE, " +
+                "modified_at TIMESTAMP)");
+
+        batchTaskExecutor = new ThreadPoolTaskExecutor();
+        batchTaskExecutor.setCorePoolSize(2);
+        batchTaskExecutor.setMaxPoolSize(2);
+        batchTaskExecutor.initialize();
+
+        demandDepositInterestService = new DemandDepositInterestService(
+                new DemandDepositInterestRepository(jdbcTemplate), batchTaskExecutor);
+        ReflectionTestUtils.setField(demandDepositInterestService, "chunkSize", 10);
+        ReflectionTestUtils.setField(demandDepositInterestService, "postingRangeSize", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchTaskExecutor.shutdown();
+    }
+
+    @Test
+    void zeroBalanceDaysAreNotChargedAfterFunding() {
+        insertAccount(1L, 0L, null);
+
+        int zeroDays = 30;
+        for (int day = 0; day < zeroDays; day++) {
+            demandDepositInterestService.accrueInterestForDate(START.plusDays(day));
+        }
+        assertThat(accruedInterest(1L)).isZero();
+        assertThat(lastAccrualDate(1L)).isEqualTo(START.plusDays(zeroDays - 1));
+
+        jdbcTemplate.update("UPDATE demand_deposit_accounts SET balance = ?, available_balance = ? WHERE id = ?",
+                10_000_000L, 10_000_000L, 1L);
+        demandDepositInterestService.accrueInterestForDate(START.plusDays(zeroDays));
+
+        assertThat(accruedInterest(1L))
+                .isEqualTo(DemandDepositInterestService.dailyAccrual(10_000_000L, RATE_KEY));
+    }
+
+    @Test
+    void missedRunsAreCaughtUp() {
+        insertAccount(1L, 10_000_000L, START);
+
+        // 2~3일 배치가 빠지고 4일에 실행
+        demandDepositInterestService.accrueInterestForDate(START.plusDays(3));
+
+        assertThat(accruedInterest(1L))
+                .isEqualTo(DemandDepositInterestService.dailyAccrual(10_000_000L, RATE_KEY) * 3);
+        assertThat(lastAccrualDate(1L)).isEqualTo(START.plusDays(3));
+    }
+
+    @Test
+    void rerunOnSameDateDoesNotAccrueTwice() {
+        insertAccount(1L, 10_000_000L, null);
+
+        demandDepositInterestService.accrueInterestForDate(START);
+        demandDepositInterestService.accrueInterestForDate(START);
+
+        assertThat(accruedInterest(1L))
+                .isEqualTo(DemandDepositInterestService.dailyAccrual(10_000_000L, RATE_KEY));
+    }
+
+    private void insertAccount(long id, long balance, LocalDate lastAccrualDate) {
+        jdbcTemplate.update("INSERT INTO demand_deposit_accounts (id, balance, available_balance, base_interest_rate, " +
+                        "status, is_active, accrued_interest, last_accrual_date) VALUES (?, ?, ?, 2.00, 'ACTIVE', TRUE, 0, ?)",
+                id, balance, balance, lastAccrualDate != null ? Date.valueOf(lastAccrualDate) : null);
+    }
+
+    private long accruedInterest(long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT accrued_interest FROM demand_deposit_accounts WHERE id = ?", Long.class, id);
+    }
+
+    private LocalDate lastAccrualDate(long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT last_accrual_date FROM demand_deposit_accounts WHERE id = ?", Date.class, id).toLocalDate();
+    }
+}
@@ -0,0 +1,507 @@
+package com.kopo.hanabank.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kopo.hanabank.config.SyntheticDataGenerator;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종단간 부하 테스트 하네스 (./gradlew loadTest)
+ * 내장 H2(MySQL 모드)로 앱을 띄우고 합성 데이터를 채운 뒤, 여러 동시 클라이언트가 설정한 비율로
+ * 연동/입출금/적금/전자영수증 API를 호출한다. 시나리오별 처리량, p50/p99/p999 지연, 요청당 SQL 실행 수를
+ * 출력하고 JSON 보고서로 남겨 성능 변경 전후를 비교할 수 있게 한다.
+ * 설정은 application-load.yml의 load.* / synthetic-data.* 이며 -Dload.clients=64 처럼 덮어쓸 수 있다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=load")
+@Import(LoadTestHarnessTest.LoadTestConfig.class)
+class LoadTestHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarnessTest.class);
+
+    private static final int FIXTURE_LIMIT = 10_000;
+
+    private static final HttpServer GREEN_WORLD = startGreenWorldStub(
+            Long.getLong("load.green-world-latency-ms", 5L));
+
+    @TestConfiguration
+    static class LoadTestConfig {
+
+        @Bean
+        static SqlStatementCounter sqlStatementCounter() {
+            return new SqlStatementCounter();
+        }
+    }
+
+    @DynamicPropertySource
+    static void greenWorldProperties(DynamicPropertyRegistry registry) {
+        registry.add("integration.green-world.url", () -> "http://localhost:" + GREEN_WORLD.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopGreenWorldStub() {
+        GREEN_WORLD.stop(0);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${internal.service.secret}")
+    private String internalSecret;
+
+    @Value("${internal.auth.header}")
+    private String internalAuthHeader;
+
+    @Value("${load.clients:32}")
+    private int clients;
+
+    @Value("${load.warmup-seconds:10}")
+    private int warmupSeconds;
+
+    @Value("${load.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${load.mix}")
+    private String mix;
+
+    @Value("${load.max-server-error-rate:0.01}")
+    private double maxServerErrorRate;
+
+    @Value("${load.report-file:build/reports/load/load-report.json}")
+    private String reportFile;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final AtomicLong receiptSequence = new AtomicLong();
+
+    @Test
+    void runLoad() throws Exception {
+        // 합성 데이터 생성기는 synthetic 프로필 전용이므로 직접 만들어 실행한다
+        long seedStartedAt = System.currentTimeMillis();
+        beanFactory.createBean(SyntheticDataGenerator.class).generate();
+        log.info("시드 데이터 생성 완료 - 소요: {}ms", System.currentTimeMillis() - seedStartedAt);
+
+        List<Scenario> scenarios = scenarios(loadFixtures());
+        log.info("부하 시작 - 클라이언트: {}, 워밍업: {}s, 측정: {}s, 시나리오: {}",
+                clients, warmupSeconds, durationSeconds, scenarios.stream().map(Scenario::name).toList());
+
+        drive(scenarios, Duration.ofSeconds(warmupSeconds));
+        sqlStatementCounter.reset();
+        RunResult result = drive(scenarios, Duration.ofSeconds(durationSeconds));
+
+        Map<String, Object> report = report(scenarios, result);
+        Path path = Path.of(reportFile);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+        log.info("부하 테스트 보고서: {}", path.toAbsolutePath());
+
+        long requests = result.totalRequests();
+        assertThat(requests).as("측정 구간 요청 수").isPositive();
+        assertThat((double) result.totalServerErrors() / requests).as("5xx/전송 실패 비율")
+                .isLessThanOrEqualTo(maxServerErrorRate);
+    }
+
+    private Fixtures loadFixtures() {
+        List<Map<String, Object>> users = jdbcTemplate.queryForList(
+                "SELECT id, ci FROM users WHERE ci LIKE 'SYNCI-%' AND is_active = TRUE ORDER BY id LIMIT " + FIXTURE_LIMIT);
+        long[] userIds = users.stream().mapToLong(row -> ((Number) row.get("id")).longValue()).toArray();
+        String[] customerTokens = users.stream()
+                .map(row -> Base64.getEncoder().encodeToString(((String) row.get("ci")).getBytes(StandardCharsets.UTF_8)))
+                .toArray(String[]::new);
+        String[] depositAccounts = jdbcTemplate.queryForList(
+                "SELECT account_number FROM demand_deposit_accounts WHERE status = 'ACTIVE' ORDER BY id LIMIT " + FIXTURE_LIMIT,
+                String.class).toArray(String[]::new);
+        String[] savingsAccounts = jdbcTemplate.queryForList(
+                "SELECT account_number FROM savings_accounts WHERE status = 'ACTIVE' ORDER BY id LIMIT " + FIXTURE_LIMIT,
+                String.class).toArray(String[]::new);
+
+        assertThat(userIds).as("합성 사용자").isNotEmpty();
+        assertThat(depositAccounts).as("합성 입출금 계좌").isNotEmpty();
+        return new Fixtures(userIds, customerTokens, depositAccounts, savingsAccounts);
+    }
+
+    /**
+     * load.mix ("시나리오=가중치,...")에 나온 시나리오만 가중치와 함께 구성한다
+     */
+    private List<Scenario> scenarios(Fixtures fixtures) {
+        Map<String, Function<SplittableRandom, HttpRequest>> requests = new LinkedHashMap<>();
+        requests.put("integration.customer-info", random -> integration("/api/integration/customer-info",
+                Map.of("customerInfoToken", fixtures.customerToken(random), "requestingService", "LOAD_TEST")));
+        requests.put("integration.electronic-receipts", random -> integration("/api/integration/electronic-receipts",
+                Map.of("customerInfoToken", fixtures.customerToken(random))));
+        requests.put("integration.deposit-accounts", random -> integration("/api/integration/deposit-accounts",
+                Map.of("customerInfoToken", fixtures.customerToken(random))));
+        requests.put("deposit.accounts", random -> get("/deposit-accounts/user/" + fixtures.userId(random)));
+        requests.put("deposit.deposit", random -> post("/deposit-accounts/" + fixtures.depositAccount(random)
+                + "/deposit?amount=" + (1_000 + random.nextInt(100_000)), null));
+        requests.put("savings.accounts", random -> get("/savings/accounts/user/" + fixtures.userId(random)));
+        requests.put("savings.deposit", random -> post("/savings/accounts/deposit",
+                Map.of("accountNumber", fixtures.savingsAccount(random), "amount", 10_000L * (1 + random.nextInt(10)))));
+        requests.put("receipt.create", random -> post("/api/electronic-receipts", Map.of(
+                "userId", fixtures.userId(random),
+                "transactionId", "LOAD" + System.currentTimeMillis() + "-" + receiptSequence.incrementAndGet(),
+                "transactionType", "DEPOSIT",
+                "transactionAmount", 1_000L * (1 + random.nextInt(1_000)),
+                "branchName", "하나원큐",
+                "receiptDate", LocalDateTime.now().toString())));
+        requests.put("receipt.list", random -> get("/api/electronic-receipts/customer/" + fixtures.userId(random)));
+
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            String name = parts[0].trim();
+            Function<SplittableRandom, HttpRequest> request = requests.get(name);
+            if (request == null) {
+                throw new IllegalArgumentException("알 수 없는 시나리오: " + name + " (가능: " + requests.keySet() + ")");
+            }
+            if (name.equals("savings.deposit") && fixtures.savingsAccounts().length == 0) {
+                continue;
+            }
+            double weight = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 1.0;
+            if (weight > 0) {
+                scenarios.add(new Scenario(name, weight, request));
+            }
+        }
+        assertThat(scenarios).as("load.mix").isNotEmpty();
+        return scenarios;
+    }
+
+    private RunResult drive(List<Scenario> scenarios, Duration duration) throws Exception {
+        double[] cumulative = new double[scenarios.size()];
+        double total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight();
+            cumulative[i] = total;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + duration.toNanos();
+        try {
+            List<Future<ScenarioStats[]>> futures = new ArrayList<>(clients);
+            for (int client = 0; client < clients; client++) {
+                SplittableRandom random = new SplittableRandom(31L * client + 7);
+                double weightSum = total;
+                futures.add(pool.submit(() -> runClient(scenarios, cumulative, weightSum, random, deadline)));
+            }
+
+            ScenarioStats[] merged = new ScenarioStats[scenarios.size()];
+            for (int i = 0; i < merged.length; i++) {
+                merged[i] = new ScenarioStats();
+            }
+            for (Future<ScenarioStats[]> future : futures) {
+                ScenarioStats[] stats = future.get();
+                for (int i = 0; i < merged.length; i++) {
+                    merged[i].merge(stats[i]);
+                }
+            }
+            return new RunResult(merged, System.nanoTime() - startedAt);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private ScenarioStats[] runClient(List<Scenario> scenarios, double[] cumulative, double weightSum,
+                                      SplittableRandom random, long deadline) {
+        ScenarioStats[] stats = new ScenarioStats[scenarios.size()];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new ScenarioStats();
+        }
+
+        while (System.nanoTime() < deadline) {
+            int index = pick(cumulative, random.nextDouble() * weightSum);
+            Scenario scenario = scenarios.get(index);
+            HttpRequest request = HttpRequest.newBuilder(scenario.request().apply(random), (name, value) -> true)
+                    .header(SqlStatementCounter.SCENARIO_HEADER, scenario.name())
+                    .build();
+
+            long startedAt = System.nanoTime();
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException e) {
+                status = -1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            stats[index].record(System.nanoTime() - startedAt, status);
+        }
+        return stats;
+    }
+
+    private Map<String, Object> report(List<Scenario> scenarios, RunResult result) {
+        double seconds = result.elapsedNanos() / 1e9;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        ScenarioStats overall = new ScenarioStats();
+        long totalStatements = 0;
+
+        log.info(String.format("%-32s %9s %9s %9s %9s %9s %7s %7s %8s",
+                "scenario", "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "4xx", "5xx", "sql/req"));
+        for (int i = 0; i < scenarios.size(); i++) {
+            ScenarioStats stats = result.stats()[i];
+            long statements = sqlStatementCounter.count(scenarios.get(i).name());
+            rows.add(row(scenarios.get(i).name(), stats, seconds, statements));
+            overall.merge(stats);
+            totalStatements += statements;
+        }
+        Map<String, Object> totalRow = row("total", overall, seconds, totalStatements);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("clients", clients);
+        report.put("warmupSeconds", warmupSeconds);
+        report.put("durationSeconds", seconds);
+        report.put("mix", mix);
+        report.put("dataset", Map.of(
+                "users", count("users"),
+                "demandDepositAccounts", count("demand_deposit_accounts"),
+                "savingsAccounts", count("savings_accounts"),
+                "loanAccounts", count("loan_accounts"),
+                "investmentAccounts", count("investment_accounts"),
+                "electronicReceipts", count("electronic_receipts")));
+        report.put("total", totalRow);
+        report.put("scenarios", rows);
+        return report;
+    }
+
+    private Map<String, Object> row(String name, ScenarioStats stats, double seconds, long statements) {
+        long[] latencies = stats.sortedLatencies();
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("scenario", name);
+        row.put("requests", stats.count);
+        row.put("throughput", stats.count / seconds);
+        row.put("p50Millis", percentile(latencies, 0.50));
+        row.put("p99Millis", percentile(latencies, 0.99));
+        row.put("p999Millis", percentile(latencies, 0.999));
+        row.put("clientErrors", stats.clientErrors);
+        row.put("serverErrors", stats.serverErrors);
+        row.put("sqlStatementsPerRequest", stats.count > 0 ? (double) statements / stats.count : 0.0);
+
+        log.info(String.format("%-32s %9d %9.1f %9.2f %9.2f %9.2f %7d %7d %8.2f",
+                name, stats.count, row.get("throughput"), row.get("p50Millis"), row.get("p99Millis"),
+                row.get("p999Millis"), stats.clientErrors, stats.serverErrors, row.get("sqlStatementsPerRequest")));
+        return row;
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(body != null ? HttpRequest.BodyPublishers.ofString(json(body)) : HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest integration(String path, Object body) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .header(internalAuthHeader, Base64.getEncoder().encodeToString(internalSecret.getBytes(StandardCharsets.UTF_8)))
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build();
+    }
+
+    private String json(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int pick(double[] cumulative, double target) {
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(sortedNanos.length - 1, index))] / 1e6;
+    }
+
+    /**
+     * 하나그린세상 스텁: 사용자 확인은 일부만 가입자로 응답하고 웹훅은 항상 성공한다
+     */
+    private static HttpServer startGreenWorldStub(long latencyMillis) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            SplittableRandom seed = new SplittableRandom(11);
+            server.createContext("/", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                if (latencyMillis > 0) {
+                    try {
+                        Thread.sleep(latencyMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                boolean greenWorldUser;
+                synchronized (seed) {
+                    greenWorldUser = seed.nextInt(5) == 0;
+                }
+                byte[] body = ("{\"success\":" + greenWorldUser + "}").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.setExecutor(Executors.newFixedThreadPool(16, runnable -> {
+                Thread thread = new Thread(runnable, "green-world-stub");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Scenario(String name, double weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private record RunResult(ScenarioStats[] stats, long elapsedNanos) {
+
+        long totalRequests() {
+            return Arrays.stream(stats).mapToLong(stat -> stat.count).sum();
+        }
+
+        long totalServerErrors() {
+            return Arrays.stream(stats).mapToLong(stat -> stat.serverErrors).sum();
+        }
+    }
+
+    private record Fixtures(long[] userIds, String[] customerTokens, String[] depositAccounts, String[] savingsAccounts) {
+
+        long userId(SplittableRandom random) {
+            return userIds[random.nextInt(userIds.length)];
+        }
+
+        String customerToken(SplittableRandom random) {
+            return customerTokens[random.nextInt(customerTokens.length)];
+        }
+
+        String depositAccount(SplittableRandom random) {
+            return depositAccounts[random.nextInt(depositAccounts.length)];
+        }
+
+        String savingsAccount(SplittableRandom random) {
+            return savingsAccounts[random.nextInt(savingsAccounts.length)];
+        }
+    }
+
+    /**
+     * 클라이언트 스레드별 시나리오 지연 표본 (측정 후 병합)
+     */
+    private static final class ScenarioStats {
+        private long[] latencies = new long[1024];
+        private long count;
+        private long clientErrors;
+        private long serverErrors;
+
+        void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+            }
+            latencies[(int) count++] = nanos;
+            if (status >= 400 && status < 500) {
+                clientErrors++;
+            } else if (status >= 500 || status < 0) {
+                serverErrors++;
+            }
+        }
+
+        void merge(ScenarioStats other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], 200);
+            }
+            clientErrors += other.clientErrors;
+            serverErrors += other.serverErrors;
+        }
+
+        long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, (int) count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.kopo.hanabank.load;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 시나리오별 SQL 실행 횟수 집계
+ * DataSource를 프록시로 감싸 Statement의 execute* 호출(배치는 1회)을 세고,
+ * 요청 헤더의 시나리오 이름으로 요청 처리 스레드의 실행을 시나리오에 귀속시킨다.
+ */
+class SqlStatementCounter extends OncePerRequestFilter implements BeanPostProcessor, Ordered {
+
+    static final String SCENARIO_HEADER = "X-Load-Scenario";
+
+    private final ThreadLocal<String> currentScenario = new ThreadLocal<>();
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    long count(String scenario) {
+        LongAdder adder = counts.get(scenario);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    void reset() {
+        counts.clear();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String scenario = request.getHeader(SCENARIO_HEADER);
+        if (scenario == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        currentScenario.set(scenario);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            currentScenario.remove();
+        }
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection connection ? countingConnection(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Statement statement ? countingStatement(statement) : result;
+        });
+    }
+
+    private Statement countingStatement(Statement statement) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                String scenario = currentScenario.get();
+                if (scenario != null) {
+                    counts.computeIfAbsent(scenario, key -> new LongAdder()).increment();
+                }
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, TargetHandler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TargetHandler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
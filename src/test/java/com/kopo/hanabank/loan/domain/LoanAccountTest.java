@@ -0,0 +1,70 @@
+package com.kopo.hanabank.loan.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월말(29~31일) 개설 대출의 기간과 약정일
+ * 만기일과 회차 약정일은 모두 개설일 + N개월(말일 보정)이므로 짧은 달을 지나도 개설일 기준으로 돌아와야 한다.
+ */
+class LoanAccountTest {
+
+    @Test
+    void termMonthsIgnoresEndOfMonthAdjustment() {
+        assertThat(loan(LocalDate.of(2024, 1, 31), 12).getTermMonths()).isEqualTo(12);
+        // 3/31 + 11개월 = 2/28
+        assertThat(loan(LocalDate.of(2024, 3, 31), 11).getMaturityDate()).isEqualTo(LocalDate.of(2025, 2, 28));
+        assertThat(loan(LocalDate.of(2024, 3, 31), 11).getTermMonths()).isEqualTo(11);
+        for (int day = 29; day <= 31; day++) {
+            for (int months = 1; months <= 36; months++) {
+                LocalDate startDate = LocalDate.of(2023, 1, day);
+                assertThat(loan(startDate, months).getTermMonths())
+                        .as("개설일: %s, 기간: %d개월", startDate, months).isEqualTo(months);
+            }
+        }
+    }
+
+    @Test
+    void dueDatesFollowStartDayAfterShortMonths() {
+        LoanAccount loan = loan(LocalDate.of(2023, 1, 31), 12);
+        assertThat(loan.getNextDueDate()).isEqualTo(LocalDate.of(2023, 2, 28));
+
+        loan.collectInstallment(1, LocalDate.of(2023, 2, 28), 100_000L, 0L, 100_000L, LocalDate.of(2023, 2, 28));
+        assertThat(loan.getNextDueDate()).isEqualTo(LocalDate.of(2023, 3, 31));
+
+        loan.collectInstallment(2, LocalDate.of(2023, 3, 31), 100_000L, 0L, 100_000L, LocalDate.of(2023, 3, 31));
+        assertThat(loan.getNextDueDate()).isEqualTo(LocalDate.of(2023, 4, 30));
+    }
+
+    @Test
+    void lastInstallmentFallsOnMaturityAndClearsDueDate() {
+        for (int day = 29; day <= 31; day++) {
+            LocalDate startDate = LocalDate.of(2024, 1, day);
+            LoanAccount loan = loan(startDate, 13);
+
+            for (int installment = 1; installment < 13; installment++) {
+                LocalDate dueDate = loan.getNextDueDate();
+                assertThat(dueDate).as("개설일: %s, %d회차", startDate, installment)
+                        .isEqualTo(startDate.plusMonths(installment));
+                loan.collectInstallment(installment, dueDate, 100_000L, 0L, 100_000L, dueDate);
+            }
+            assertThat(loan.getNextDueDate()).isEqualTo(loan.getMaturityDate());
+
+            loan.collectInstallment(13, loan.getMaturityDate(), 100_000L, 0L, 100_000L, loan.getMaturityDate());
+            assertThat(loan.getNextDueDate()).as("개설일: %s", startDate).isNull();
+        }
+    }
+
+    private static LoanAccount loan(LocalDate startDate, int months) {
+        return LoanAccount.builder()
+                .accountNumber("LN" + startDate)
+                .loanAmount(1_300_000L)
+                .startDate(startDate)
+                .maturityDate(startDate.plusMonths(months))
+                .repaymentMethod(LoanAccount.RepaymentMethod.EQUAL_PRINCIPAL)
+                .build();
+    }
+}
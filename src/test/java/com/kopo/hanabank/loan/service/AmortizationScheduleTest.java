@@ -0,0 +1,154 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상환 스케줄을 반올림 없이 회차마다 다시 계산한 스케줄과 비교한다.
+ * 원 단위 올림/절사로 생기는 차이는 회차마다 최대 2원씩, 원리금균등은 여기에 이자가 붙어 불어나는 만큼만 허용한다.
+ */
+class AmortizationScheduleTest {
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+    private static final BigDecimal MONTHLY_RATE_DENOMINATOR = BigDecimal.valueOf(120000);
+    private static final double ROUNDING_PER_INSTALLMENT_WON = 2.0;
+
+    private static final long[] LOAN_AMOUNTS = {1_000_000L, 12_000_000L, 350_000_000L, 999_999_999L};
+    private static final int[] RATE_KEYS = {0, 1, 437, 600, 1999};
+    private static final int[] TERMS = {1, 2, 7, 12, 120, 360};
+
+    @Test
+    void equalInstallmentMatchesKnownAnswer() {
+        // 1,200만원, 연 6%, 12개월: 월 1,032,797.43원 -> 1,032,798원
+        AmortizationSchedule schedule = AmortizationSchedule.of(
+                LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT, 12_000_000L, 600, 12);
+
+        assertThat(AmortizationSchedule.equalInstallmentPayment(12_000_000L, 600, 12)).isEqualTo(1_032_798L);
+        assertThat(schedule.interest(0)).isEqualTo(60_000L);
+        assertThat(schedule.balance(0)).isEqualTo(11_027_202L);
+        for (int i = 0; i < 11; i++) {
+            assertThat(schedule.payment(i)).as("%d회차 상환액", i + 1).isEqualTo(1_032_798L);
+        }
+        // 매회 올림한 만큼 마지막 회차가 덜 낸다
+        assertThat(schedule.principal(11)).isEqualTo(1_027_644L);
+        assertThat(schedule.interest(11)).isEqualTo(5_138L);
+        assertThat(schedule.payment(11)).isEqualTo(1_032_782L);
+        assertThat(schedule.balance(11)).isZero();
+    }
+
+    @Test
+    void equalPrincipalLastInstallmentTakesResidue() {
+        AmortizationSchedule schedule = AmortizationSchedule.of(
+                LoanAccount.RepaymentMethod.EQUAL_PRINCIPAL, 1_000_000L, 437, 7);
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(schedule.principal(i)).as("%d회차 원금", i + 1).isEqualTo(142_857L);
+        }
+        assertThat(schedule.principal(6)).isEqualTo(142_858L);
+        assertThat(schedule.balance(6)).isZero();
+    }
+
+    @Test
+    void zeroRateInstallmentRoundsUpAndSettlesOnLastInstallment() {
+        AmortizationSchedule schedule = AmortizationSchedule.of(
+                LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT, 1_000_000L, 0, 3);
+
+        assertThat(schedule.payment(0)).isEqualTo(333_334L);
+        assertThat(schedule.payment(1)).isEqualTo(333_334L);
+        assertThat(schedule.payment(2)).isEqualTo(333_332L);
+        assertThat(schedule.totalInterest()).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(LoanAccount.RepaymentMethod.class)
+    void principalsSumToLoanAmount(LoanAccount.RepaymentMethod method) {
+        for (long loanAmount : LOAN_AMOUNTS) {
+            for (int rateKey : RATE_KEYS) {
+                for (int months : TERMS) {
+                    AmortizationSchedule schedule = AmortizationSchedule.of(method, loanAmount, rateKey, months);
+                    long principals = 0;
+                    for (int i = 0; i < months; i++) {
+                        assertThat(schedule.payment(i)).isEqualTo(schedule.principal(i) + schedule.interest(i));
+                        principals += schedule.principal(i);
+                    }
+                    assertThat(principals).as("원금 합계 - %d원, %d, %d개월", loanAmount, rateKey, months)
+                            .isEqualTo(loanAmount);
+                    assertThat(schedule.balance(months - 1)).isZero();
+                    assertThat(schedule.totalPayment()).isEqualTo(loanAmount + schedule.totalInterest());
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(LoanAccount.RepaymentMethod.class)
+    void matchesUnroundedScheduleWithinRoundingDrift(LoanAccount.RepaymentMethod method) {
+        for (long loanAmount : LOAN_AMOUNTS) {
+            for (int rateKey : RATE_KEYS) {
+                for (int months : TERMS) {
+                    AmortizationSchedule schedule = AmortizationSchedule.of(method, loanAmount, rateKey, months);
+                    BigDecimal[][] exact = unroundedSchedule(method, loanAmount, rateKey, months);
+                    double monthlyRate = rateKey / MONTHLY_RATE_DENOMINATOR.doubleValue();
+                    double growth = method == LoanAccount.RepaymentMethod.EQUAL_INSTALLMENT ? 1.0 + monthlyRate : 1.0;
+
+                    double drift = 0.0;
+                    for (int i = 0; i < months; i++) {
+                        double previousDrift = drift;
+                        drift = drift * growth + ROUNDING_PER_INSTALLMENT_WON;
+                        String installment = method + " " + loanAmount + "원, " + rateKey + ", "
+                                + months + "개월, " + (i + 1) + "회차";
+
+                        assertThat(Math.abs(schedule.balance(i) - exact[2][i].doubleValue()))
+                                .as("잔액 - %s", installment).isLessThanOrEqualTo(drift);
+                        assertThat(Math.abs(schedule.interest(i) - exact[1][i].doubleValue()))
+                                .as("이자 - %s", installment).isLessThanOrEqualTo(previousDrift * monthlyRate + 1.0);
+                        assertThat(Math.abs(schedule.payment(i) - exact[0][i].doubleValue()))
+                                .as("상환액 - %s", installment)
+                                .isLessThanOrEqualTo(previousDrift * (1.0 + monthlyRate) + ROUNDING_PER_INSTALLMENT_WON);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 원 미만을 버리지 않은 회차별 상환액/이자/잔액
+     * 원리금균등 A = P r (1+r)^n / ((1+r)^n - 1) (무이자는 P/n), 원금균등은 매회 P/n, 만기일시는 마지막 회차에 원금 전액
+     */
+    private static BigDecimal[][] unroundedSchedule(LoanAccount.RepaymentMethod method, long loanAmount,
+                                                    int rateKey, int months) {
+        BigDecimal principal = BigDecimal.valueOf(loanAmount);
+        BigDecimal monthlyRate = BigDecimal.valueOf(rateKey).divide(MONTHLY_RATE_DENOMINATOR, MC);
+        BigDecimal principalPerMonth = principal.divide(BigDecimal.valueOf(months), MC);
+        BigDecimal installment = principalPerMonth;
+        if (rateKey > 0) {
+            BigDecimal growthN = BigDecimal.ONE.add(monthlyRate).pow(months, MC);
+            installment = principal.multiply(monthlyRate, MC).multiply(growthN, MC)
+                    .divide(growthN.subtract(BigDecimal.ONE), MC);
+        }
+
+        BigDecimal[][] result = new BigDecimal[3][months];
+        BigDecimal balance = principal;
+        for (int i = 0; i < months; i++) {
+            boolean last = i == months - 1;
+            BigDecimal interest = balance.multiply(monthlyRate, MC);
+            BigDecimal repaid = switch (method) {
+                case EQUAL_INSTALLMENT -> installment.subtract(interest);
+                case EQUAL_PRINCIPAL -> principalPerMonth;
+                case BULLET -> last ? balance : BigDecimal.ZERO;
+            };
+            balance = balance.subtract(repaid);
+            result[0][i] = repaid.add(interest);
+            result[1][i] = interest;
+            result[2][i] = balance;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package com.kopo.hanabank.loan.service;
+
+import com.kopo.hanabank.common.catalog.CatalogRefreshedEvent;
+import com.kopo.hanabank.common.domain.ModificationStamp;
+import com.kopo.hanabank.loan.domain.LoanProduct;
+import com.kopo.hanabank.loan.repository.LoanProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대출 상품 금액 구간 인덱스를 전체 상품을 훑는 조회와 비교한다.
+ * 같은 minAmount가 여러 개인 경우와 구간 끝점 금액을 특히 확인한다.
+ */
+class LoanProductIndexTest {
+
+    private final LoanProductRepository loanProductRepository = mock(LoanProductRepository.class);
+
+    private LoanProductCatalog loanProductCatalog;
+    private LoanProductIndex loanProductIndex;
+
+    @BeforeEach
+    void setUp() {
+        loanProductCatalog = new LoanProductCatalog(mock(ApplicationEventPublisher.class), loanProductRepository);
+        loanProductIndex = new LoanProductIndex(loanProductCatalog);
+    }
+
+    @Test
+    void boundaryAmountsAndDuplicateMinAmounts() {
+        LoanProduct a = product(1L, 1_000_000L, 10_000_000L, 12, 36);
+        LoanProduct b = product(2L, 1_000_000L, 5_000_000L, 12, 60);
+        LoanProduct c = product(3L, 5_000_000L, 50_000_000L, 24, 120);
+        LoanProduct d = product(4L, 60_000_000L, 100_000_000L, 12, 360);
+        givenProducts(List.of(d, c, b, a));
+
+        assertThat(loanProductIndex.find(999_999L, null)).isEmpty();
+        assertThat(loanProductIndex.find(1_000_000L, null)).containsExactly(a, b);
+        assertThat(loanProductIndex.find(5_000_000L, null)).containsExactly(a, b, c);
+        assertThat(loanProductIndex.find(5_000_001L, null)).containsExactly(a, c);
+        assertThat(loanProductIndex.find(55_000_000L, null)).isEmpty();
+        assertThat(loanProductIndex.find(100_000_000L, null)).containsExactly(d);
+        assertThat(loanProductIndex.find(100_000_001L, null)).isEmpty();
+
+        assertThat(loanProductIndex.find(5_000_000L, 60)).containsExactly(b, c);
+        assertThat(loanProductIndex.find(5_000_000L, 11)).isEmpty();
+    }
+
+    @Test
+    void matchesFullScan() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<LoanProduct> products = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            // 끝점이 겹치도록 10만원 단위로 만든다
+            long minAmount = 100_000L * random.nextInt(1, 500);
+            long maxAmount = minAmount + 100_000L * random.nextInt(0, 300);
+            int minPeriod = 6 * random.nextInt(1, 20);
+            int maxPeriod = minPeriod + 6 * random.nextInt(0, 40);
+            products.add(product(id, minAmount, maxAmount, minPeriod, maxPeriod));
+        }
+        givenProducts(products);
+
+        for (int i = 0; i < 2_000; i++) {
+            long amount = 100_000L * random.nextInt(0, 900) + (random.nextBoolean() ? 0L : random.nextInt(-1, 2));
+            Integer months = random.nextInt(4) == 0 ? null : 6 * random.nextInt(1, 60);
+            assertThat(loanProductIndex.find(amount, months))
+                    .as("금액: %d, 기간: %s", amount, months)
+                    .containsExactlyElementsOf(fullScan(products, amount, months));
+        }
+    }
+
+    @Test
+    void rebuildsWhenCatalogRefreshes() {
+        LoanProduct before = product(1L, 1_000_000L, 10_000_000L, 12, 36);
+        givenProducts(List.of(before));
+        assertThat(loanProductIndex.find(20_000_000L, null)).isEmpty();
+
+        LoanProduct added = product(2L, 10_000_000L, 30_000_000L, 12, 36);
+        when(loanProductRepository.findModificationStamp()).thenReturn(ModificationStamp.of(2L, LocalDateTime.now()));
+        when(loanProductRepository.findByIsActiveTrue()).thenReturn(List.of(before, added));
+        loanProductCatalog.refresh(false);
+        loanProductIndex.onCatalogRefreshed(new CatalogRefreshedEvent(LoanProductCatalog.FAMILY,
+                loanProductCatalog.current().getVersion()));
+
+        assertThat(loanProductIndex.find(20_000_000L, null)).containsExactly(added);
+        assertThat(loanProductIndex.find(10_000_000L, null)).containsExactly(before, added);
+    }
+
+    private void givenProducts(List<LoanProduct> products) {
+        when(loanProductRepository.findModificationStamp())
+                .thenReturn(ModificationStamp.of(products.size(), LocalDateTime.of(2025, 1, 1, 0, 0)));
+        when(loanProductRepository.findByIsActiveTrue()).thenReturn(products);
+        loanProductCatalog.refresh(true);
+        loanProductIndex.refresh();
+    }
+
+    private static List<LoanProduct> fullScan(List<LoanProduct> products, long amount, Integer months) {
+        return products.stream()
+                .filter(product -> product.getMinAmount() <= amount && amount <= product.getMaxAmount())
+                .filter(product -> months == null
+                        || (product.getMinPeriodMonths() <= months && months <= product.getMaxPeriodMonths()))
+                .sorted(Comparator.comparing(LoanProduct::getMinAmount).thenComparing(LoanProduct::getProductId))
+                .toList();
+    }
+
+    private static LoanProduct product(long id, long minAmount, long maxAmount, int minPeriod, int maxPeriod) {
+        LoanProduct product = LoanProduct.builder()
+                .productName("대출상품" + id)
+                .productType("CREDIT")
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .periodMonths(minPeriod)
+                .loanType(LoanProduct.LoanType.PERSONAL_LOAN)
+                .build();
+        ReflectionTestUtils.setField(product, "productId", id);
+        ReflectionTestUtils.setField(product, "maxPeriodMonths", maxPeriod);
+        return product;
+    }
+}
@@ -0,0 +1,436 @@
+package com.kopo.hanabank.stress;
+
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.deposit.service.DemandDepositAccountService;
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.repository.LoanAccountRepository;
+import com.kopo.hanabank.loan.repository.LoanProductRepository;
+import com.kopo.hanabank.loan.service.LoanService;
+import com.kopo.hanabank.savings.domain.SavingsAccount;
+import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
+import com.kopo.hanabank.savings.repository.SavingsProductRepository;
+import com.kopo.hanabank.savings.service.AutoTransferSchedulerService;
+import com.kopo.hanabank.savings.service.SavingsService;
+import com.kopo.hanabank.user.domain.User;
+import com.kopo.hanabank.user.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 돈이 오가는 연산의 동시성 고문 테스트 (./gradlew stressTest)
+ * 같은 계좌에 여러 스레드가 동시에 입출금/적금 입금/자동이체/대출 상환을 몰아넣고,
+ * 끝난 뒤 잔액 보존 불변식과 함께 처리량, 락 실패 재시도율, 교착 횟수를 보고한다.
+ * 락/배치 방식을 바꿀 때 정합성과 속도를 함께 확인하는 용도다.
+ */
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.profiles.active=load",
+        "integration.green-world.url=http://localhost:0",
+        "logging.level.com.kopo.hanabank.stress=INFO"
+})
+class MoneyMovementTortureTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MoneyMovementTortureTest.class);
+
+    private static final int THREADS = Integer.getInteger("stress.threads", 16);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("stress.operations-per-thread", 250);
+    private static final int MAX_RETRIES = 20;
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.currentTimeMillis() % 1_000_000);
+
+    @Autowired
+    private DemandDepositAccountService demandDepositAccountService;
+
+    @Autowired
+    private SavingsService savingsService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private AutoTransferSchedulerService autoTransferSchedulerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DemandDepositAccountRepository demandDepositAccountRepository;
+
+    @Autowired
+    private SavingsAccountRepository savingsAccountRepository;
+
+    @Autowired
+    private SavingsProductRepository savingsProductRepository;
+
+    @Autowired
+    private LoanAccountRepository loanAccountRepository;
+
+    @Autowired
+    private LoanProductRepository loanProductRepository;
+
+    @Test
+    void concurrentDepositsAndWithdrawalsConserveBalances() throws Exception {
+        User user = createUser();
+        int accountCount = 4;
+        long initialBalance = 1_000_000L;
+        String[] accounts = new String[accountCount];
+        LongAdder[] deposited = new LongAdder[accountCount];
+        LongAdder[] withdrawn = new LongAdder[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accounts[i] = createDepositAccount(user, initialBalance).getAccountNumber();
+            deposited[i] = new LongAdder();
+            withdrawn[i] = new LongAdder();
+        }
+
+        TortureResult result = hammer("입출금", random -> {
+            int index = random.nextInt(accountCount);
+            long amount = 1 + random.nextInt(50_000);
+            if (random.nextBoolean()) {
+                demandDepositAccountService.deposit(accounts[index], amount);
+                deposited[index].add(amount);
+            } else {
+                demandDepositAccountService.withdraw(accounts[index], amount);
+                withdrawn[index].add(amount);
+            }
+        });
+
+        result.assertNoUnexpectedFailures();
+        for (int i = 0; i < accountCount; i++) {
+            DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accounts[i]).orElseThrow();
+            long expected = initialBalance + deposited[i].sum() - withdrawn[i].sum();
+            assertThat(account.getBalance()).as("잔액 보존 - %s", accounts[i]).isEqualTo(expected);
+            assertThat(account.getAvailableBalance()).as("가용 잔액 - %s", accounts[i]).isEqualTo(expected);
+            assertThat(account.getBalance()).as("음수 잔액 - %s", accounts[i]).isNotNegative();
+        }
+    }
+
+    @Test
+    void autoTransfersAndSavingsDepositsConserveMoney() throws Exception {
+        User user = createUser();
+        long initialBalance = 500_000L;
+        DemandDepositAccount withdrawalAccount = createDepositAccount(user, initialBalance);
+        String withdrawalAccountNumber = withdrawalAccount.getAccountNumber();
+
+        int savingsCount = 8;
+        SavingsAccount[] savingsAccounts = new SavingsAccount[savingsCount];
+        for (int i = 0; i < savingsCount; i++) {
+            savingsAccounts[i] = createSavingsAccount(user, withdrawalAccountNumber, 30_000L);
+        }
+
+        LongAdder externalDeposits = new LongAdder();
+        LongAdder externalWithdrawals = new LongAdder();
+        LongAdder savingsDeposits = new LongAdder();
+
+        TortureResult result = hammer("적금/자동이체", random -> {
+            SavingsAccount savingsAccount = savingsAccounts[random.nextInt(savingsCount)];
+            int operation = random.nextInt(100);
+            long amount = 1_000L * (1 + random.nextInt(50));
+            if (operation < 40) {
+                autoTransferSchedulerService.processAutoTransfer(savingsAccount);
+            } else if (operation < 70) {
+                savingsService.depositToSavings(savingsAccount.getAccountNumber(), amount);
+                savingsDeposits.add(amount);
+            } else if (operation < 85) {
+                demandDepositAccountService.deposit(withdrawalAccountNumber, amount);
+                externalDeposits.add(amount);
+            } else {
+                demandDepositAccountService.withdraw(withdrawalAccountNumber, amount);
+                externalWithdrawals.add(amount);
+            }
+        });
+
+        result.assertNoUnexpectedFailures();
+        DemandDepositAccount finalWithdrawalAccount = demandDepositAccountRepository
+                .findByAccountNumber(withdrawalAccountNumber).orElseThrow();
+        long savingsTotal = 0;
+        for (SavingsAccount savingsAccount : savingsAccounts) {
+            long balance = savingsAccountRepository.findByAccountNumber(savingsAccount.getAccountNumber())
+                    .orElseThrow().getBalance();
+            assertThat(balance).as("적금 음수 잔액 - %s", savingsAccount.getAccountNumber()).isNotNegative();
+            savingsTotal += balance;
+        }
+
+        // 자동이체는 두 계좌 사이에서만 돈을 옮기므로 합계는 외부 입출금과 적금 직접 입금만큼만 변한다
+        assertThat(finalWithdrawalAccount.getBalance() + savingsTotal).as("계좌 합계 보존")
+                .isEqualTo(initialBalance + externalDeposits.sum() - externalWithdrawals.sum() + savingsDeposits.sum());
+        assertThat(finalWithdrawalAccount.getAvailableBalance()).as("출금 계좌 가용 잔액")
+                .isEqualTo(finalWithdrawalAccount.getBalance());
+        assertThat(finalWithdrawalAccount.getBalance()).as("출금 계좌 음수 잔액").isNotNegative();
+    }
+
+    @Test
+    void scheduledAutoTransferRunsConserveMoney() throws Exception {
+        User user = createUser();
+        long initialBalance = 2_000_000L;
+        String withdrawalAccountNumber = createDepositAccount(user, initialBalance).getAccountNumber();
+
+        int savingsCount = 8;
+        String[] savingsAccountNumbers = new String[savingsCount];
+        for (int i = 0; i < savingsCount; i++) {
+            savingsAccountNumbers[i] = createSavingsAccount(user, withdrawalAccountNumber, 10_000L).getAccountNumber();
+        }
+
+        LongAdder externalDeposits = new LongAdder();
+        LongAdder externalWithdrawals = new LongAdder();
+        LongAdder savingsDeposits = new LongAdder();
+
+        // 스케줄 진입점(계좌별 트랜잭션 루프)을 입출금/적금 입금과 겹쳐 돌린다
+        TortureResult result = hammer("자동이체 배치", random -> {
+            int operation = random.nextInt(100);
+            long amount = 1_000L * (1 + random.nextInt(50));
+            if (operation < 5) {
+                autoTransferSchedulerService.processAutoTransfers();
+            } else if (operation < 35) {
+                String savingsAccountNumber = savingsAccountNumbers[random.nextInt(savingsCount)];
+                savingsService.depositToSavings(savingsAccountNumber, amount);
+                savingsDeposits.add(amount);
+            } else if (operation < 70) {
+                demandDepositAccountService.deposit(withdrawalAccountNumber, amount);
+                externalDeposits.add(amount);
+            } else {
+                demandDepositAccountService.withdraw(withdrawalAccountNumber, amount);
+                externalWithdrawals.add(amount);
+            }
+        });
+
+        result.assertNoUnexpectedFailures();
+        DemandDepositAccount finalWithdrawalAccount = demandDepositAccountRepository
+                .findByAccountNumber(withdrawalAccountNumber).orElseThrow();
+        long savingsTotal = 0;
+        for (String savingsAccountNumber : savingsAccountNumbers) {
+            savingsTotal += savingsAccountRepository.findByAccountNumber(savingsAccountNumber).orElseThrow().getBalance();
+        }
+
+        assertThat(savingsTotal - savingsDeposits.sum()).as("배치 자동이체 반영").isPositive();
+        assertThat(finalWithdrawalAccount.getBalance() + savingsTotal).as("계좌 합계 보존")
+                .isEqualTo(initialBalance + externalDeposits.sum() - externalWithdrawals.sum() + savingsDeposits.sum());
+        assertThat(finalWithdrawalAccount.getAvailableBalance()).as("출금 계좌 가용 잔액")
+                .isEqualTo(finalWithdrawalAccount.getBalance());
+        assertThat(finalWithdrawalAccount.getBalance()).as("출금 계좌 음수 잔액").isNotNegative();
+    }
+
+    @Test
+    void concurrentLoanRepaymentsNeverOverpay() throws Exception {
+        User user = createUser();
+        long loanAmount = 10_000_000L;
+        String loanAccountNumber = createLoanAccount(user, loanAmount).getAccountNumber();
+        LongAdder repaid = new LongAdder();
+
+        TortureResult result = hammer("대출 상환", random -> {
+            long amount = 1 + random.nextInt(20_000);
+            loanService.repayLoan(loanAccountNumber, amount);
+            repaid.add(amount);
+        });
+
+        result.assertNoUnexpectedFailures();
+        LoanAccount loan = loanAccountRepository.findByAccountNumber(loanAccountNumber).orElseThrow();
+        assertThat(loan.getRemainingAmount()).as("대출 잔액 보존").isEqualTo(loanAmount - repaid.sum());
+        assertThat(loan.getRemainingAmount()).as("초과 상환").isNotNegative();
+        if (loan.getRemainingAmount() == 0) {
+            assertThat(loan.getStatus()).isEqualTo(LoanAccount.LoanStatus.COMPLETED);
+        } else {
+            assertThat(loan.getStatus()).isEqualTo(LoanAccount.LoanStatus.ACTIVE);
+        }
+    }
+
+    /**
+     * THREADS개 스레드가 동시에 출발해 각각 OPERATIONS_PER_THREAD번 연산을 실행한다
+     * 락 획득 실패/교착은 같은 연산을 재시도하고, 업무 규칙에 따른 거절(잔액 부족 등)은 정상 결과로 센다.
+     */
+    private TortureResult hammer(String name, Operation operation) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        TortureResult result = new TortureResult(name);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                SplittableRandom random = new SplittableRandom(1_000L + thread);
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        execute(operation, random, result);
+                    }
+                    return null;
+                }));
+            }
+
+            long startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            result.elapsedNanos = System.nanoTime() - startedAt;
+        } finally {
+            pool.shutdownNow();
+        }
+
+        log.info("[{}] 연산: {}, 성공: {}, 거절: {}, 처리량: {}/s, 재시도: {} ({}%), 교착: {}, 예상 밖 실패: {}",
+                name, result.attempted(), result.succeeded.sum(), result.rejected.sum(),
+                String.format("%.1f", result.throughput()), result.retries.sum(),
+                String.format("%.2f", result.retryRate() * 100), result.deadlocks.sum(), result.failures.size());
+        return result;
+    }
+
+    private void execute(Operation operation, SplittableRandom random, TortureResult result) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                operation.run(random);
+                result.succeeded.increment();
+                return;
+            } catch (Exception e) {
+                if (isLockFailure(e) && attempt < MAX_RETRIES) {
+                    result.retries.increment();
+                    if (isDeadlock(e)) {
+                        result.deadlocks.increment();
+                    }
+                    continue;
+                }
+                if (e instanceof BusinessException || e instanceof IllegalArgumentException) {
+                    result.rejected.increment();
+                } else {
+                    result.failures.add(e);
+                }
+                return;
+            }
+        }
+    }
+
+    private static boolean isLockFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyFailureException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDeadlock(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DeadlockLoserDataAccessException
+                    || (cause.getMessage() != null && cause.getMessage().toLowerCase().contains("deadlock"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private User createUser() {
+        long sequence = SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .username("torture" + sequence)
+                .email("torture" + sequence + "@example.com")
+                .phoneNumber(String.format("018-%04d-%04d", sequence / 10_000 % 10_000, sequence % 10_000))
+                .name("고문테스트")
+                .birthDate("19900101")
+                .ci("TORTURE-CI-" + sequence)
+                .build());
+    }
+
+    private DemandDepositAccount createDepositAccount(User user, long balance) {
+        return demandDepositAccountRepository.save(DemandDepositAccount.builder()
+                .user(user)
+                .accountNumber("TORT081" + SEQUENCE.incrementAndGet())
+                .accountName("고문테스트 입출금")
+                .accountType(DemandDepositAccount.AccountType.CHECKING)
+                .balance(balance)
+                .availableBalance(balance)
+                .openDate(LocalDate.now())
+                .build());
+    }
+
+    private SavingsAccount createSavingsAccount(User user, String withdrawalAccountNumber, long monthlyTransferAmount) {
+        return savingsAccountRepository.save(SavingsAccount.builder()
+                .user(user)
+                .product(savingsProductRepository.findAll().get(0))
+                .accountNumber("TORT506" + SEQUENCE.incrementAndGet())
+                .accountName("고문테스트 적금")
+                .balance(0L)
+                .startDate(LocalDate.now())
+                .maturityDate(LocalDate.now().plusMonths(12))
+                .baseRate(new BigDecimal("2.50"))
+                .preferentialRate(BigDecimal.ZERO)
+                .finalRate(new BigDecimal("2.50"))
+                .autoTransferEnabled(true)
+                .transferDay(LocalDate.now().getDayOfMonth())
+                .monthlyTransferAmount(monthlyTransferAmount)
+                .withdrawalAccountNumber(withdrawalAccountNumber)
+                .build());
+    }
+
+    private LoanAccount createLoanAccount(User user, long loanAmount) {
+        return loanAccountRepository.save(LoanAccount.builder()
+                .user(user)
+                .product(loanProductRepository.findAll().get(0))
+                .accountNumber("TORTLOAN" + SEQUENCE.incrementAndGet())
+                .accountName("고문테스트 대출")
+                .loanAmount(loanAmount)
+                .interestRate(new BigDecimal("4.50"))
+                .startDate(LocalDate.now())
+                .maturityDate(LocalDate.now().plusMonths(60))
+                .monthlyPayment(200_000L)
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run(SplittableRandom random);
+    }
+
+    private static final class TortureResult {
+        private final String name;
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder deadlocks = new LongAdder();
+        private final List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        private long elapsedNanos;
+
+        private TortureResult(String name) {
+            this.name = name;
+        }
+
+        long attempted() {
+            return succeeded.sum() + rejected.sum() + failures.size();
+        }
+
+        double throughput() {
+            return elapsedNanos > 0 ? attempted() / (elapsedNanos / 1e9) : 0.0;
+        }
+
+        double retryRate() {
+            long attempted = attempted();
+            return attempted > 0 ? (double) retries.sum() / attempted : 0.0;
+        }
+
+        void assertNoUnexpectedFailures() {
+            if (!failures.isEmpty()) {
+                log.error("[{}] 예상 밖 실패 예시", name, failures.get(0));
+            }
+            assertThat(failures).as("[%s] 예상 밖 실패", name).isEmpty();
+        }
+    }
+}